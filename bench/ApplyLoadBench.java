@@ -0,0 +1,149 @@
+import com.sun.net.httpserver.HttpServer;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * POST /api/recruit/posts/{id}/applications 부하 측정 (플랫폼 스레드 vs 가상 스레드 비교용).
+ *
+ * 1) 이 프로그램이 팀 서비스 스텁을 띄운다 (기본 200ms 지연, 모든 요청을 캐시 미스로 만들기 위해 신청마다 다른 팀 사용)
+ * 2) recruit 서비스를 스텁을 보도록 실행한다
+ *      VIRTUAL_THREADS_ENABLED=true|false java -jar build/libs/*.jar \
+ *        --team.service.url=http://localhost:18083 --notification.service.url=http://localhost:18083
+ * 3) java bench/ApplyLoadBench.java [target=http://localhost:8084] [concurrency=400] [requests=4000] [stubPort=18083] [latencyMs=200]
+ *
+ * 경기(MATCH) 모집글 여러 개를 만들고 각 신청을 서로 다른 팀/주장으로 보내 처리량과 p50/p99 지연을 출력한다.
+ */
+public class ApplyLoadBench {
+    private static final Pattern TEAM_PATH = Pattern.compile("/api/teams/(\\d+)/members");
+    private static final long PROFILE_BASE = 1_000_000L;
+    // 신청 건수 카운터 갱신이 한 행에 몰리지 않도록 여러 모집글에 나눠 신청한다
+    private static final int POSTS = 200;
+
+    public static void main(String[] args) throws Exception {
+        String target = arg(args, 0, "http://localhost:8084");
+        int concurrency = Integer.parseInt(arg(args, 1, "400"));
+        int requests = Integer.parseInt(arg(args, 2, "4000"));
+        int stubPort = Integer.parseInt(arg(args, 3, "18083"));
+        long latencyMs = Long.parseLong(arg(args, 4, "200"));
+
+        HttpServer stub = startTeamStub(stubPort, latencyMs);
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            long[] postIds = new long[POSTS];
+            for (int i = 0; i < POSTS; i++) postIds[i] = createMatchPost(client, target);
+            int warmup = Math.min(requests / 10, 500);
+            run(client, target, postIds, 0, warmup, concurrency);
+            Result r = run(client, target, postIds, warmup, requests, concurrency);
+            System.out.printf("requests=%d concurrency=%d latency=%dms%n", requests, concurrency, latencyMs);
+            System.out.printf("throughput=%.1f req/s errors=%d%n", requests / r.seconds, r.errors);
+            System.out.printf("p50=%.1fms p99=%.1fms max=%.1fms%n", r.percentile(50), r.percentile(99), r.percentile(100));
+        } finally {
+            stub.stop(0);
+        }
+    }
+
+    private static Result run(HttpClient client, String target, long[] postIds, int offset, int count, int concurrency)
+            throws InterruptedException {
+        long[] latencies = new long[count];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore permits = new Semaphore(concurrency);
+        long start = System.nanoTime();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                int n = offset + i;
+                int slot = i;
+                permits.acquire();
+                executor.execute(() -> {
+                    long t0 = System.nanoTime();
+                    try {
+                        String body = "{\"applicantProfileId\":" + (PROFILE_BASE + n) + ",\"applicantTeamId\":" + (n + 1) + "}";
+                        HttpResponse<Void> res = client.send(HttpRequest.newBuilder(
+                                        URI.create(target + "/api/recruit/posts/" + postIds[n % postIds.length] + "/applications"))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body))
+                                .build(), HttpResponse.BodyHandlers.discarding());
+                        if (res.statusCode() >= 300) errors.incrementAndGet();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[slot] = System.nanoTime() - t0;
+                        permits.release();
+                    }
+                });
+            }
+        }
+        return new Result(latencies, (System.nanoTime() - start) / 1e9, errors.get());
+    }
+
+    private static long createMatchPost(HttpClient client, String target) throws Exception {
+        String body = "{\"teamId\":1,\"writerProfileId\":1,\"title\":\"load test\",\"category\":\"MATCH\"}";
+        HttpResponse<String> res = client.send(HttpRequest.newBuilder(URI.create(target + "/api/recruit/posts"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        Matcher m = Pattern.compile("\"id\"\\s*:\\s*(\\d+)").matcher(res.body());
+        if (res.statusCode() >= 300 || !m.find()) {
+            throw new IllegalStateException("post creation failed: " + res.statusCode() + " " + res.body());
+        }
+        return Long.parseLong(m.group(1));
+    }
+
+    // 팀 n의 주장은 프로필 PROFILE_BASE + n - 1. 그 외 요청(알림, 일정)은 지연 후 200
+    private static HttpServer startTeamStub(int port, long latencyMs) throws Exception {
+        // JDK HttpServer 기본값(유휴 커넥션 200개, Nagle)으로는 스텁이 먼저 병목이 된다
+        System.setProperty("sun.net.httpserver.maxIdleConnections", "2000");
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            try {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(latencyMs);
+                String body = "{}";
+                Matcher m = TEAM_PATH.matcher(exchange.getRequestURI().getPath());
+                if ("GET".equals(exchange.getRequestMethod()) && m.matches()) {
+                    long captain = PROFILE_BASE + Long.parseLong(m.group(1)) - 1;
+                    body = "[{\"id\":{\"profileId\":" + captain + "},\"roleInTeam\":\"CAPTAIN\",\"isActive\":true}]";
+                }
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static String arg(String[] args, int i, String def) {
+        return args.length > i ? args[i] : def;
+    }
+
+    private record Result(long[] latencies, double seconds, int errors) {
+        double percentile(int p) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int idx = Math.max(0, (int) Math.ceil(p / 100.0 * sorted.length) - 1);
+            return sorted[idx] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.sportshub.recruit.bench;
+
+import com.sportshub.recruit.RecruitServiceApplication;
+import com.sportshub.recruit.domain.RecruitApplication;
+import com.sportshub.recruit.domain.RecruitPost;
+import com.sportshub.recruit.repository.RecruitApplicationRepository;
+import com.sportshub.recruit.repository.RecruitPostRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 팀 서비스 지연이 있을 때 신청(apply)과 경기 모집 승인(accept)의 응답 시간, 플랫폼 스레드 vs 가상 스레드.
+// 팀 서비스/알림 서비스는 latencyMs만큼 지연하는 내장 스텁이고, DB는 내장 H2(MySQL 모드).
+// Hikari 풀(10)보다 동시 요청(@Threads)이 많으므로 원격 호출 동안 커넥션을 붙잡으면 풀 대기가 지연에 그대로 더해진다.
+//   apply:  신청마다 다른 팀으로 보내 주장 확인(멤버 목록 조회)이 항상 캐시 미스
+//   accept: 매번 새 MATCH 모집글/신청을 만들어 두고 PATCH ACCEPTED (경기 생성 + 양팀 일정 등록)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@Threads(64)
+@State(Scope.Benchmark)
+public class ApplicationLoadBenchmark {
+    private static final Pattern TEAM_PATH = Pattern.compile("/api/teams/(\\d+)/members");
+    private static final long CAPTAIN_BASE = 1_000_000L;
+
+    @Param({"false", "true"})
+    boolean virtualThreads;
+
+    @Param({"100"})
+    long latencyMs;
+
+    private HttpServer stub;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private RecruitPostRepository postRepository;
+    private RecruitApplicationRepository applicationRepository;
+    private long applyPostId;
+    private final AtomicLong teamSequence = new AtomicLong();
+
+    @Setup
+    public void setUp() throws IOException {
+        stub = startTeamStub(latencyMs);
+        String stubUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        context = new SpringApplicationBuilder(RecruitServiceApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.hikari.maximum-pool-size=10",
+                        "--spring.flyway.enabled=false",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--team.service.url=" + stubUrl,
+                        "--notification.service.url=" + stubUrl,
+                        "--recruit.counters.reconcile-initial-delay-ms=3600000",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.sportshub.recruit=WARN");
+        baseUrl = "http://127.0.0.1:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        postRepository = context.getBean(RecruitPostRepository.class);
+        applicationRepository = context.getBean(RecruitApplicationRepository.class);
+        applyPostId = postRepository.save(matchPost()).getId();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        stub.stop(0);
+    }
+
+    // 승인할 신청: 측정 밖에서 호출마다 새로 만든다
+    @State(Scope.Thread)
+    public static class PendingApplication {
+        long postId;
+        long applicationId;
+
+        @Setup(Level.Invocation)
+        public void create(ApplicationLoadBenchmark bench) {
+            RecruitPost post = bench.postRepository.save(matchPost());
+            RecruitApplication a = new RecruitApplication();
+            a.setPostId(post.getId());
+            a.setPostWriterProfileId(post.getWriterProfileId());
+            a.setApplicantProfileId(CAPTAIN_BASE + 2);
+            a.setApplicantTeamId(2L);
+            a.setStatus("PENDING");
+            postId = post.getId();
+            applicationId = bench.applicationRepository.save(a).getId();
+        }
+    }
+
+    @Benchmark
+    public int apply() throws Exception {
+        long team = 1_000 + teamSequence.incrementAndGet();
+        String body = "{\"applicantProfileId\":" + (CAPTAIN_BASE + team) + ",\"applicantTeamId\":" + team + "}";
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/recruit/posts/" + applyPostId + "/applications"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    @Benchmark
+    public int accept(PendingApplication pending) throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/recruit/posts/" + pending.postId
+                        + "/applications/" + pending.applicationId))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\":\"ACCEPTED\"}")));
+    }
+
+    private int send(HttpRequest.Builder request) throws Exception {
+        HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("unexpected status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    private static RecruitPost matchPost() {
+        RecruitPost p = new RecruitPost();
+        p.setTeamId(1L);
+        p.setWriterProfileId(1L);
+        p.setTitle("load test");
+        p.setCategory("MATCH");
+        p.setStatus("OPEN");
+        p.setMatchDate(LocalDate.of(2026, 5, 1));
+        p.setGameTime(LocalTime.of(18, 0));
+        p.setFieldLocation("경기장");
+        return p;
+    }
+
+    // 팀 n의 주장은 프로필 CAPTAIN_BASE + n. 그 외 요청(알림, 일정 등록)은 지연 후 200
+    private static HttpServer startTeamStub(long latencyMs) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            try {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(latencyMs);
+                String body = "{}";
+                Matcher m = TEAM_PATH.matcher(exchange.getRequestURI().getPath());
+                if ("GET".equals(exchange.getRequestMethod()) && m.matches()) {
+                    long captain = CAPTAIN_BASE + Long.parseLong(m.group(1));
+                    body = "[{\"id\":{\"profileId\":" + captain + "},\"roleInTeam\":\"CAPTAIN\",\"isActive\":true}]";
+                }
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+        return server;
+    }
+}
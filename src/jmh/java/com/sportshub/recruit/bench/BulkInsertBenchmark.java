@@ -0,0 +1,100 @@
+package com.sportshub.recruit.bench;
+
+import com.sportshub.recruit.RecruitServiceApplication;
+import com.sportshub.recruit.domain.Match;
+import com.sportshub.recruit.service.MatchService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 시즌 일정 300경기 등록: 경기마다 POST /api/matches 하던 방식(perRow) vs POST /api/matches/bulk(bulk).
+// 점수는 초당 저장 행 수. 차이는 DB 왕복 수에서 나오므로 실제 MySQL에 돌려야 의미가 있다:
+//   BENCH_DATASOURCE_URL=jdbc:mysql://.../bench BENCH_DATASOURCE_USERNAME=... BENCH_DATASOURCE_PASSWORD=... \
+//     ./gradlew jmh -Pjmh.includes=BulkInsertBenchmark
+// 스키마는 Flyway가 만들고 matches에 행이 계속 쌓이므로 비어 있는 전용 DB를 쓴다.
+// 환경 변수가 없으면 내장 H2(MySQL 모드)로 돈다 (왕복이 없어 차이가 작다).
+// rewriteBatchedStatements=false면 MySQL 드라이버가 배치를 행마다 따로 보낸다
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+    private static final int ROWS = 300;
+
+    @Param({"true", "false"})
+    boolean rewriteBatchedStatements;
+
+    private ConfigurableApplicationContext context;
+    private MatchService matchService;
+
+    @Setup
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=" + rewriteBatchedStatements,
+                "--recruit.scheduling.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.sportshub.recruit=WARN"));
+        String url = System.getenv("BENCH_DATASOURCE_URL");
+        if (url != null && !url.isBlank()) {
+            args.add("--spring.datasource.url=" + url);
+            args.add("--spring.datasource.username=" + System.getenv().getOrDefault("BENCH_DATASOURCE_USERNAME", ""));
+            args.add("--spring.datasource.password=" + System.getenv().getOrDefault("BENCH_DATASOURCE_PASSWORD", ""));
+        } else {
+            args.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.flyway.enabled=false",
+                    "--spring.jpa.hibernate.ddl-auto=create"));
+        }
+        context = new SpringApplicationBuilder(RecruitServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+        matchService = context.getBean(MatchService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void perRow(Blackhole bh) {
+        for (Match m : season()) {
+            bh.consume(matchService.create(m));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void bulk(Blackhole bh) {
+        bh.consume(matchService.createAll(season()));
+    }
+
+    private static List<Match> season() {
+        List<Match> matches = new ArrayList<>(ROWS);
+        LocalDate opening = LocalDate.of(2025, 3, 1);
+        for (int i = 0; i < ROWS; i++) {
+            Match m = new Match();
+            m.setMatchDate(opening.plusDays(i / 4));
+            m.setMatchTime(LocalTime.of(14 + (i % 4) * 2, 0));
+            m.setVenue("경기장 " + (i % 12 + 1));
+            m.setVenueId((long) (i % 12 + 1));
+            m.setHomeTeamId((long) (i % 20 + 1));
+            m.setAwayTeamId((long) ((i + 7) % 20 + 1));
+            matches.add(m);
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,119 @@
+package com.sportshub.recruit.bench;
+
+import com.sportshub.recruit.domain.RecruitPost;
+import com.sportshub.recruit.web.dto.RecruitDtos.PostCreateRequest;
+import com.sportshub.recruit.web.dto.RecruitDtos.PostUpdateRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 벤치마크 입력 데이터. 고정 시드로 만들어 실행마다 같은 값을 쓴다
+final class PostFixtures {
+    private static final String[] CATEGORIES = {"MERCENARY", "TEAM", "MATCH"};
+    private static final String[] REGIONS = {"서울", "경기", "인천", "부산", "대구"};
+    private static final String[] TEAM_SIZES = {"5vs5", "6vs6", "7vs7", "8vs8", "11vs11"};
+    private static final String[] FIELD_TYPES = {"잔디구장", "인조잔디", "풋살장"};
+
+    private PostFixtures() {
+    }
+
+    static List<RecruitPost> posts(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<RecruitPost> posts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            RecruitPost p = new RecruitPost();
+            p.setId((long) i + 1);
+            p.setTeamId((long) random.nextInt(1, 5_000));
+            p.setWriterProfileId((long) random.nextInt(1, 50_000));
+            p.setTitle("주말 풋살 용병 구합니다 #" + i);
+            p.setContent("실력 무관, 매너 있는 분 환영합니다. 경기 전 10분까지 도착 부탁드립니다. " + i);
+            p.setRegion(pick(random, REGIONS));
+            p.setSubRegion("구역-" + random.nextInt(30));
+            p.setImageUrl("https://cdn.sportshub.example/posts/" + i + ".jpg");
+            p.setMatchDate(LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365)));
+            p.setGameTime(LocalTime.of(random.nextInt(8, 23), 0));
+            p.setCategory(pick(random, CATEGORIES));
+            p.setTargetType("USER");
+            p.setStatus("OPEN");
+            p.setCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(i));
+            p.setRequiredPersonnel(random.nextInt(1, 12));
+            p.setPreferredPositions("FW,MF");
+            p.setAgeGroup("20대");
+            p.setSkillLevel("중급");
+            p.setFieldLocation("잠실 유수지 풋살장");
+            p.setMatchType("친선경기");
+            p.setTeamSize(pick(random, TEAM_SIZES));
+            p.setFieldType(pick(random, FIELD_TYPES));
+            p.setCost(random.nextInt(0, 30) * 1000);
+            p.setParkingAvailable(random.nextBoolean());
+            p.setShowerFacilities(random.nextBoolean());
+            p.setActivityDays("토,일");
+            p.setActivityTime("저녁");
+            p.setMinPlayers(5);
+            p.setMaxPlayers(12);
+            p.setMatchRules("풋살화 필수, 태클 금지");
+            posts.add(p);
+        }
+        return posts;
+    }
+
+    static List<PostCreateRequest> createRequests(int size) {
+        List<PostCreateRequest> requests = new ArrayList<>(size);
+        for (RecruitPost p : posts(size)) {
+            PostCreateRequest r = new PostCreateRequest();
+            r.setTeamId(p.getTeamId());
+            r.setWriterProfileId(p.getWriterProfileId());
+            r.setTitle(p.getTitle());
+            r.setContent(p.getContent());
+            r.setRegion(p.getRegion());
+            r.setSubRegion(p.getSubRegion());
+            r.setImageUrl(p.getImageUrl());
+            r.setMatchDate(p.getMatchDate());
+            r.setGameTime(p.getGameTime());
+            r.setCategory(p.getCategory());
+            r.setTargetType(p.getTargetType());
+            r.setRequiredPersonnel(p.getRequiredPersonnel());
+            r.setPreferredPositions(p.getPreferredPositions());
+            r.setAgeGroup(p.getAgeGroup());
+            r.setSkillLevel(p.getSkillLevel());
+            r.setFieldLocation(p.getFieldLocation());
+            r.setMatchType(p.getMatchType());
+            r.setTeamSize(p.getTeamSize());
+            r.setFieldType(p.getFieldType());
+            r.setCost(p.getCost());
+            r.setParkingAvailable(p.getParkingAvailable());
+            r.setShowerFacilities(p.getShowerFacilities());
+            r.setActivityDays(p.getActivityDays());
+            r.setActivityTime(p.getActivityTime());
+            r.setMinPlayers(p.getMinPlayers());
+            r.setMaxPlayers(p.getMaxPlayers());
+            r.setMatchRules(p.getMatchRules());
+            requests.add(r);
+        }
+        return requests;
+    }
+
+    // 실제 수정 요청처럼 일부 필드만 채운다
+    static List<PostUpdateRequest> updateRequests(int size) {
+        SplittableRandom random = new SplittableRandom(7);
+        List<PostUpdateRequest> requests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            PostUpdateRequest r = new PostUpdateRequest();
+            r.setTitle("수정된 제목 #" + i);
+            r.setContent("수정된 내용 " + i);
+            r.setCost(random.nextInt(0, 30) * 1000);
+            if (random.nextBoolean()) r.setStatus("CLOSED");
+            if (random.nextBoolean()) r.setMatchDate(LocalDate.of(2025, 6, 1).plusDays(random.nextInt(30)));
+            requests.add(r);
+        }
+        return requests;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,115 @@
+package com.sportshub.recruit.bench;
+
+import com.sportshub.recruit.domain.RecruitPost;
+import com.sportshub.recruit.web.dto.RecruitDtos.PostCreateRequest;
+import com.sportshub.recruit.web.dto.RecruitDtos.PostUpdateRequest;
+import com.sportshub.recruit.web.dto.RecruitMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.beans.BeanUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 요청 경로: 컨트롤러의 요청 -> 엔티티 복사와 RecruitService.update의 패치(RecruitMapper.applyPatch).
+// copy* / updateWithBeanUtils는 RecruitMapper 도입 전 방식(BeanUtils)과의 비교용
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class PostMappingBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    int size;
+
+    private List<PostCreateRequest> createRequests;
+    private List<PostUpdateRequest> updateRequests;
+    private InMemoryPosts posts;
+
+    @Setup
+    public void setUp() {
+        createRequests = PostFixtures.createRequests(size);
+        updateRequests = PostFixtures.updateRequests(size);
+        posts = new InMemoryPosts(PostFixtures.posts(size));
+    }
+
+    @Benchmark
+    public void mapCreateRequest(Blackhole bh) {
+        for (PostCreateRequest req : createRequests) {
+            bh.consume(RecruitMapper.toPost(req));
+        }
+    }
+
+    @Benchmark
+    public void mapUpdateRequest(Blackhole bh) {
+        for (PostUpdateRequest req : updateRequests) {
+            bh.consume(RecruitMapper.toPatch(req));
+        }
+    }
+
+    @Benchmark
+    public void copyCreateRequest(Blackhole bh) {
+        for (PostCreateRequest req : createRequests) {
+            RecruitPost p = new RecruitPost();
+            BeanUtils.copyProperties(req, p);
+            bh.consume(p);
+        }
+    }
+
+    @Benchmark
+    public void copyUpdateRequest(Blackhole bh) {
+        for (PostUpdateRequest req : updateRequests) {
+            RecruitPost patch = new RecruitPost();
+            BeanUtils.copyProperties(req, patch);
+            bh.consume(patch);
+        }
+    }
+
+    // 컨트롤러 변환 + 서비스 패치 (DB 없이 조회/저장만 메모리에서 처리)
+    @Benchmark
+    public void update(Blackhole bh) {
+        long id = 1;
+        for (PostUpdateRequest req : updateRequests) {
+            bh.consume(update(id++, RecruitMapper.toPatch(req)));
+        }
+    }
+
+    @Benchmark
+    public void updateWithBeanUtils(Blackhole bh) {
+        long id = 1;
+        for (PostUpdateRequest req : updateRequests) {
+            RecruitPost patch = new RecruitPost();
+            BeanUtils.copyProperties(req, patch);
+            bh.consume(update(id++, patch));
+        }
+    }
+
+    // RecruitService.update에서 트랜잭션과 작성자 변경 처리를 뺀 부분
+    private RecruitPost update(long id, RecruitPost patch) {
+        RecruitPost p = posts.findById(id);
+        RecruitMapper.applyPatch(p, patch);
+        return posts.save(p);
+    }
+
+    // 벤치마크가 쓰는 조회/저장만 있는 메모리 저장소
+    private static final class InMemoryPosts {
+        private final Map<Long, RecruitPost> byId = new HashMap<>();
+
+        InMemoryPosts(List<RecruitPost> posts) {
+            posts.forEach(p -> byId.put(p.getId(), p));
+        }
+
+        RecruitPost findById(long id) {
+            return byId.get(id);
+        }
+
+        RecruitPost save(RecruitPost post) {
+            byId.put(post.getId(), post);
+            return post;
+        }
+    }
+}
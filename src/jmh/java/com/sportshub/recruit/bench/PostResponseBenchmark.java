@@ -0,0 +1,54 @@
+package com.sportshub.recruit.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportshub.recruit.domain.RecruitPost;
+import com.sportshub.recruit.web.dto.RecruitDtos.PostResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 응답 경로: 엔티티 -> PostResponse 변환과 JSON 직렬화
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class PostResponseBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    int size;
+
+    private List<RecruitPost> posts;
+    private List<PostResponse> responses;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        posts = PostFixtures.posts(size);
+        responses = toResponses();
+        // 스프링 부트와 같은 기본 설정 (JavaTimeModule 등록, 날짜를 문자열로)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public List<PostResponse> construct() {
+        return toResponses();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    private List<PostResponse> toResponses() {
+        List<PostResponse> result = new ArrayList<>(posts.size());
+        for (RecruitPost post : posts) {
+            result.add(new PostResponse(post, post.getAcceptedCount().longValue()));
+        }
+        return result;
+    }
+}
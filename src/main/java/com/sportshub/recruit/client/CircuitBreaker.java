@@ -0,0 +1,126 @@
+package com.sportshub.recruit.client;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// 연속 실패가 임계치를 넘으면 OPEN, openDuration 이후 한 건만 시험 호출(HALF_OPEN), 성공하면 CLOSED
+@Slf4j
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int LATENCY_SAMPLES = 512;
+
+    @Getter
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyCount;
+    private int latencyCursor;
+    private long maxLatencyMillis;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt >= openDurationNanos) {
+                    transitionTo(State.HALF_OPEN);
+                    trialInFlight = true;
+                    return true;
+                }
+                break;
+            case HALF_OPEN:
+                if (!trialInFlight) {
+                    trialInFlight = true;
+                    return true;
+                }
+                break;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public synchronized void onSuccess(long elapsedMillis) {
+        record(elapsedMillis);
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    public synchronized void onFailure(long elapsedMillis) {
+        record(elapsedMillis);
+        failures.increment();
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            trialInFlight = false;
+            consecutiveFailures = 0;
+            openedAt = System.nanoTime();
+            transitionTo(State.OPEN);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized Map<String, Object> snapshot() {
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("name", name);
+        snapshot.put("state", state);
+        snapshot.put("calls", calls.sum());
+        snapshot.put("failures", failures.sum());
+        snapshot.put("rejected", rejected.sum());
+        snapshot.put("p50Millis", percentile(sorted, 0.50));
+        snapshot.put("p95Millis", percentile(sorted, 0.95));
+        snapshot.put("p99Millis", percentile(sorted, 0.99));
+        snapshot.put("maxMillis", maxLatencyMillis);
+        return snapshot;
+    }
+
+    private void record(long elapsedMillis) {
+        calls.increment();
+        latencies[latencyCursor] = elapsedMillis;
+        latencyCursor = (latencyCursor + 1) % LATENCY_SAMPLES;
+        latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+        maxLatencyMillis = Math.max(maxLatencyMillis, elapsedMillis);
+    }
+
+    private void transitionTo(State next) {
+        if (state != next) {
+            log.warn("Circuit breaker '{}' {} -> {}", name, state, next);
+            state = next;
+        }
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
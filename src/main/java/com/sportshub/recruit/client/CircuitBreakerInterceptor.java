@@ -0,0 +1,37 @@
+package com.sportshub.recruit.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+// 5xx 응답과 I/O 오류만 실패로 센다. 4xx는 상대 서비스가 정상 응답한 것으로 본다
+@RequiredArgsConstructor
+public class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+    private final CircuitBreaker circuitBreaker;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new CircuitOpenException(circuitBreaker.getName());
+        }
+
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            if (response.getStatusCode().is5xxServerError()) {
+                circuitBreaker.onFailure(elapsedMillis);
+            } else {
+                circuitBreaker.onSuccess(elapsedMillis);
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onFailure((System.nanoTime() - start) / 1_000_000);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.sportshub.recruit.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CircuitBreakerRegistry {
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreaker register(String name, int failureThreshold, Duration openDuration) {
+        return breakers.computeIfAbsent(name, n -> new CircuitBreaker(n, failureThreshold, openDuration));
+    }
+
+    public List<Map<String, Object>> snapshots() {
+        return breakers.values().stream()
+                .map(CircuitBreaker::snapshot)
+                .toList();
+    }
+}
@@ -0,0 +1,9 @@
+package com.sportshub.recruit.client;
+
+import org.springframework.web.client.RestClientException;
+
+public class CircuitOpenException extends RestClientException {
+    public CircuitOpenException(String name) {
+        super("Circuit breaker '" + name + "' is open");
+    }
+}
@@ -0,0 +1,71 @@
+package com.sportshub.recruit.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// /api/teams/{id}/members 응답 스냅샷. 응답은 목록이거나 content를 가진 페이지이고,
+// profileId는 최상위 또는 id.profileId에 들어 있다
+public class TeamRoster {
+    public static final TeamRoster EMPTY = new TeamRoster(Map.of());
+
+    public record Member(Long profileId, String roleInTeam, Boolean isActive) {
+        boolean active() {
+            return Boolean.TRUE.equals(isActive);
+        }
+    }
+
+    private final Map<Long, Member> members;
+    private final Long captainProfileId;
+
+    private TeamRoster(Map<Long, Member> members) {
+        this.members = Collections.unmodifiableMap(members);
+        this.captainProfileId = members.values().stream()
+                .filter(m -> m.active() && "CAPTAIN".equals(m.roleInTeam()))
+                .map(Member::profileId)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public static TeamRoster parse(JsonNode body) {
+        if (body == null) return EMPTY;
+        JsonNode list = body.isArray() ? body : body.path("content");
+        Map<Long, Member> members = new LinkedHashMap<>();
+        for (JsonNode node : list) {
+            JsonNode profileId = node.hasNonNull("profileId") ? node.get("profileId") : node.path("id").path("profileId");
+            if (!profileId.canConvertToLong()) continue;
+            members.putIfAbsent(profileId.asLong(), new Member(
+                    profileId.asLong(),
+                    node.path("roleInTeam").asText(null),
+                    node.hasNonNull("isActive") ? node.get("isActive").asBoolean() : null));
+        }
+        return new TeamRoster(members);
+    }
+
+    public boolean isMember(Long profileId) {
+        return members.containsKey(profileId);
+    }
+
+    public boolean isActiveMember(Long profileId) {
+        Member m = members.get(profileId);
+        return m != null && m.active();
+    }
+
+    // 공동 주장도 있으므로 저장된 대표 주장 하나와 비교하지 않고 해당 멤버의 역할을 본다
+    public boolean isCaptain(Long profileId) {
+        Member m = members.get(profileId);
+        return m != null && m.active() && "CAPTAIN".equals(m.roleInTeam());
+    }
+
+    // 알림 수신자로 쓰는 대표 주장 (활성 주장 중 첫 번째)
+    public Optional<Long> captainProfileId() {
+        return Optional.ofNullable(captainProfileId);
+    }
+
+    public int size() {
+        return members.size();
+    }
+}
@@ -0,0 +1,101 @@
+package com.sportshub.recruit.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+// 팀 서비스 호출 모음. 멤버 목록은 팀별로 짧게 캐시하고, 같은 팀에 대한 동시 조회는 한 번의 호출로 합친다
+@Slf4j
+@Component
+public class TeamServiceClient {
+    private final RestTemplate restTemplate;
+    private final String teamServiceUrl;
+    private final AsyncLoadingCache<Long, TeamRoster> rosters;
+
+    public TeamServiceClient(@Qualifier("teamRestTemplate") RestTemplate restTemplate,
+                             @Value("${team.service.url:http://sportshub-team:8083}") String teamServiceUrl,
+                             @Value("${team.roster-cache.ttl:30s}") Duration ttl,
+                             @Value("${team.roster-cache.max-size:1000}") long maxSize,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.restTemplate = restTemplate;
+        this.teamServiceUrl = teamServiceUrl;
+        // 가상 스레드 모드에서는 로딩을 별도 가상 스레드에서 수행한다.
+        // 호출 스레드에서 로딩하면 캐시 내부 synchronized 구간에서 HTTP 호출을 기다리며 캐리어 스레드를 붙잡는다
+        Executor loadExecutor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("roster-load-", 0).factory())
+                : Runnable::run;
+        this.rosters = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .executor(loadExecutor)
+                .recordStats()
+                .buildAsync(this::fetchRoster);
+    }
+
+    // 조회 실패 시 예외를 던지며, 실패 결과는 캐시하지 않는다
+    public TeamRoster getRoster(Long teamId) {
+        try {
+            return rosters.get(teamId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    public void evictRoster(Long teamId) {
+        rosters.synchronous().invalidate(teamId);
+    }
+
+    public void addMember(Long teamId, Long profileId) {
+        String url = teamServiceUrl + "/api/teams/" + teamId + "/members";
+        Map<String, Object> request = new HashMap<>();
+        request.put("profileId", profileId);
+        request.put("roleInTeam", "MEMBER");
+
+        restTemplate.postForEntity(url, request, Map.class);
+        evictRoster(teamId);
+        log.info("Added profile {} to team {} as MEMBER", profileId, teamId);
+    }
+
+    // 팀 서비스의 일괄 추가 API (team.provisioning.bulk-enabled=true 일 때만 사용)
+    public void addMembers(Long teamId, List<Long> profileIds) {
+        String url = teamServiceUrl + "/api/teams/" + teamId + "/members/bulk";
+        List<Map<String, Object>> request = profileIds.stream()
+                .map(profileId -> Map.<String, Object>of("profileId", profileId, "roleInTeam", "MEMBER"))
+                .toList();
+
+        restTemplate.postForEntity(url, request, Object.class);
+        evictRoster(teamId);
+        log.info("Added {} profiles to team {} as MEMBER", profileIds.size(), teamId);
+    }
+
+    public void addMatchToSchedule(Long teamId, Long matchId) {
+        String url = teamServiceUrl + "/api/teams/" + teamId + "/schedules";
+        Map<String, Object> request = new HashMap<>();
+        request.put("matchId", matchId);
+        request.put("eventType", "MATCH");
+
+        restTemplate.postForEntity(url, request, Map.class);
+        log.info("Added match {} to team {} schedule", matchId, teamId);
+    }
+
+    private TeamRoster fetchRoster(Long teamId) {
+        String url = teamServiceUrl + "/api/teams/" + teamId + "/members";
+        TeamRoster roster = TeamRoster.parse(restTemplate.getForObject(url, JsonNode.class));
+        log.debug("Fetched roster of team {}: {} members", teamId, roster.size());
+        return roster;
+    }
+}
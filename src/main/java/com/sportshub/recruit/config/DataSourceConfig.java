@@ -0,0 +1,73 @@
+package com.sportshub.recruit.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// 애플리케이션 DataSource는 LazyConnectionDataSourceProxy: 트랜잭션 시작만으로는 물리 커넥션을 잡지 않고 첫 SQL에서 가져온다.
+//  - recruit.datasource.replica.url이 있으면 readOnly 트랜잭션은 replica, 나머지는 primary(spring.datasource)로 간다.
+//    트랜잭션 매니저가 readOnly를 지정한 뒤 실제 커넥션을 얻으므로 readOnly 여부만으로 풀이 정해진다
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicaRouting) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        replicaRouting.ifAvailable(proxy::setReadOnlyDataSource);
+        return proxy;
+    }
+
+    @Configuration
+    @ConditionalOnExpression("!'${recruit.datasource.replica.url:}'.isEmpty()")
+    static class ReplicaConfig {
+
+        @Bean
+        @ConfigurationProperties("recruit.datasource.replica.hikari")
+        public HikariDataSource replicaDataSource(@Value("${recruit.datasource.replica.url}") String url,
+                                                  @Value("${recruit.datasource.replica.username:}") String username,
+                                                  @Value("${recruit.datasource.replica.password:}") String password) {
+            HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+                    .url(url).username(username).password(password).build();
+            dataSource.setPoolName("replica");
+            dataSource.setReadOnly(true);
+            return dataSource;
+        }
+
+        @Bean
+        public ReadYourWritesTracker readYourWritesTracker(
+                @Value("${recruit.datasource.replica.read-your-writes:5s}") Duration window) {
+            return new ReadYourWritesTracker(window);
+        }
+
+        @Bean
+        public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                                 @Qualifier("replicaDataSource") DataSource replica,
+                                                                 ReadYourWritesTracker tracker) {
+            return new ReplicaRoutingDataSource(primary, replica, tracker);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.sportshub.recruit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// downstream.clients.<name>.* : 호출 대상 서비스별 HTTP 풀/타임아웃/서킷 브레이커 설정
+@Data
+@ConfigurationProperties(prefix = "downstream")
+public class DownstreamProperties {
+    private Map<String, Client> clients = new HashMap<>();
+
+    public Client client(String name) {
+        return clients.getOrDefault(name, new Client());
+    }
+
+    @Data
+    public static class Client {
+        private Duration connectTimeout = Duration.ofSeconds(1);
+        private Duration readTimeout = Duration.ofSeconds(3);
+        private Duration keepAlive = Duration.ofSeconds(30);
+        private int maxConnections = 50;
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
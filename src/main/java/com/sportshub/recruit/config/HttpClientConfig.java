@@ -0,0 +1,71 @@
+package com.sportshub.recruit.config;
+
+import com.sportshub.recruit.client.CircuitBreaker;
+import com.sportshub.recruit.client.CircuitBreakerInterceptor;
+import com.sportshub.recruit.client.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+// 호출 대상 서비스마다 별도 커넥션 풀, 타임아웃, 서킷 브레이커를 갖는 RestTemplate
+@Configuration
+@EnableConfigurationProperties(DownstreamProperties.class)
+@RequiredArgsConstructor
+public class HttpClientConfig {
+    private final DownstreamProperties downstreamProperties;
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry() {
+        return new CircuitBreakerRegistry();
+    }
+
+    @Bean
+    public RestTemplate teamRestTemplate(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return pooledRestTemplate("team", circuitBreakerRegistry);
+    }
+
+    @Bean
+    public RestTemplate notificationRestTemplate(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return pooledRestTemplate("notification", circuitBreakerRegistry);
+    }
+
+    private RestTemplate pooledRestTemplate(String name, CircuitBreakerRegistry circuitBreakerRegistry) {
+        DownstreamProperties.Client c = downstreamProperties.client(name);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(c.getMaxConnections())
+                .setMaxConnPerRoute(c.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(c.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(c.getReadTimeout()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀에서 커넥션을 기다리는 시간
+                        .setConnectionRequestTimeout(Timeout.of(c.getConnectTimeout()))
+                        .setResponseTimeout(Timeout.of(c.getReadTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(c.getKeepAlive()))
+                .build();
+
+        CircuitBreaker breaker = circuitBreakerRegistry.register(name, c.getFailureThreshold(), c.getOpenDuration());
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(new CircuitBreakerInterceptor(breaker));
+        return restTemplate;
+    }
+}
@@ -0,0 +1,61 @@
+package com.sportshub.recruit.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+// 쓰기 트랜잭션 커밋 후 window 동안 같은 클라이언트의 읽기를 primary로 보낸다 (복제 지연 중 방금 쓴 데이터가 안 보이는 문제).
+// 요청에 사용자 식별 정보가 없어서 만료 시각을 쿠키로 내려준다. 인스턴스 간 공유 상태가 필요 없다
+@RequiredArgsConstructor
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+    static final String COOKIE = "recruit_rw_until";
+    private static final String WROTE_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".WROTE";
+
+    private final Duration window;
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) return;
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return;
+
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getAttribute(WROTE_ATTRIBUTE) != null) return;
+        request.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) return;
+        Cookie cookie = new Cookie(COOKIE, Long.toString(System.currentTimeMillis() + window.toMillis()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        response.addCookie(cookie);
+    }
+
+    // 이번 요청에서 이미 썼거나 쿠키의 만료 시각이 지나지 않았으면 primary
+    public boolean readFromPrimary() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return false;
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getAttribute(WROTE_ATTRIBUTE) != null) return true;
+
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return false;
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,42 @@
+package com.sportshub.recruit.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// 읽기 전용 커넥션의 대상: 평소엔 replica, 방금 쓴 클라이언트는 primary
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final ReadYourWritesTracker tracker;
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder replicaReads = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(replica);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (tracker.readFromPrimary()) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return REPLICA;
+    }
+
+    // 읽기 전용 커넥션이 어느 쪽으로 갔는지 누적 건수
+    public Map<String, Long> routedReads() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put(PRIMARY, primaryReads.sum());
+        counts.put(REPLICA, replicaReads.sum());
+        return counts;
+    }
+}
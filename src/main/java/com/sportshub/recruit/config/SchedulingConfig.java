@@ -0,0 +1,12 @@
+package com.sportshub.recruit.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업(아웃박스 전송, 재시도, 카운터 보정). 테스트처럼 외부 서비스가 없는 환경에서는 recruit.scheduling.enabled=false로 끈다
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "recruit.scheduling.enabled", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -10,7 +10,13 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "matches")
+@Table(name = "matches", indexes = {
+        @Index(name = "idx_matches_match_date", columnList = "match_date, match_time"),
+        @Index(name = "idx_matches_status_date", columnList = "status, match_date, match_time"),
+        // 팀별 일정: 홈/원정 각각 인덱스 범위 조회 후 UNION ALL
+        @Index(name = "idx_matches_home_team_date", columnList = "home_team_id, match_date, match_time"),
+        @Index(name = "idx_matches_away_team_date", columnList = "away_team_id, match_date, match_time")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -63,6 +69,8 @@ public class Match {
     @Column(name = "created_at", insertable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "updated_at", insertable = false, updatable = false)
+    // 행이 바뀔 때마다 DB가 갱신 (벌크 UPDATE 포함). ETag 버전으로 사용
+    @Column(name = "updated_at", insertable = false, updatable = false,
+            columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)")
     private LocalDateTime updatedAt;
 }
@@ -0,0 +1,65 @@
+package com.sportshub.recruit.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 알림 발송 대기열: 업무 트랜잭션과 함께 저장되고 NotificationDispatcher가 비동기로 발송한다
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class NotificationOutbox implements OutboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "receiver_profile_id", nullable = false)
+    private Long receiverProfileId;
+
+    @Column(nullable = false, length = 50)
+    private String type;
+
+    @Column(nullable = false, length = 1000)
+    private String message;
+
+    @Column(name = "related_type", length = 50)
+    private String relatedType;
+
+    @Column(name = "related_id")
+    private Long relatedId;
+
+    @Column(nullable = false, length = 20)
+    private String status = "PENDING"; // PENDING, SENT, DEAD
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
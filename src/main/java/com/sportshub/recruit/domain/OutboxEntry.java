@@ -0,0 +1,18 @@
+package com.sportshub.recruit.domain;
+
+import java.time.LocalDateTime;
+
+// 아웃박스 행의 공통 재시도 상태. 선점/실패 처리는 OutboxQueue가 맡는다
+public interface OutboxEntry {
+    Long getId();
+
+    Integer getAttempts();
+
+    void setAttempts(Integer attempts);
+
+    void setStatus(String status);
+
+    void setNextAttemptAt(LocalDateTime nextAttemptAt);
+
+    void setLastError(String lastError);
+}
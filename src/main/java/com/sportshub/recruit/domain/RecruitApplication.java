@@ -8,7 +8,17 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "recruit_applications")
+@Table(name = "recruit_applications", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_recruit_applications_post_applicant", columnNames = {"post_id", "applicant_profile_id"}),
+        @UniqueConstraint(name = "uk_recruit_applications_post_match_team", columnNames = {"post_id", "match_team_id"})
+}, indexes = {
+        @Index(name = "idx_recruit_applications_post_status", columnList = "post_id, status"),
+        // 받은 신청함 키셋 조회 (최신순)
+        @Index(name = "idx_recruit_applications_inbox", columnList = "post_writer_profile_id, application_date, id"),
+        @Index(name = "idx_recruit_applications_inbox_status", columnList = "post_writer_profile_id, status, application_date, id"),
+        @Index(name = "idx_recruit_applications_applicant_profile_id", columnList = "applicant_profile_id"),
+        @Index(name = "idx_recruit_applications_status", columnList = "status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -26,6 +36,15 @@ public class RecruitApplication {
     @Column(name = "applicant_team_id")
     private Long applicantTeamId;
 
+    // 경기(MATCH) 모집글 신청일 때만 applicant_team_id와 같은 값. 팀당 한 번 신청은 경기 모집에만 적용되고,
+    // 팀/용병 모집에는 같은 팀 소속 여러 명이 신청할 수 있다 (NULL은 유니크 키에서 겹치지 않는다)
+    @Column(name = "match_team_id")
+    private Long matchTeamId;
+
+    // 모집글 작성자 (recruit_posts.writer_profile_id 복제). 작성자 변경 시 함께 갱신된다
+    @Column(name = "post_writer_profile_id", nullable = false)
+    private Long postWriterProfileId;
+
     @Column(columnDefinition = "TEXT")
     private String description;
 
@@ -35,6 +54,11 @@ public class RecruitApplication {
     @Column(name = "application_date", nullable = false, updatable = false)
     private LocalDateTime applicationDate;
 
+    // 행이 바뀔 때마다 DB가 갱신 (벌크 UPDATE 포함). ETag 버전으로 사용
+    @Column(name = "updated_at", insertable = false, updatable = false,
+            columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)")
+    private LocalDateTime updatedAt;
+
     @PrePersist
     protected void onCreate() {
         if (applicationDate == null) {
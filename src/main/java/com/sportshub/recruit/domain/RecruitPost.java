@@ -4,13 +4,23 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "recruit_posts")
+@DynamicUpdate
+@Table(name = "recruit_posts", indexes = {
+        @Index(name = "idx_recruit_posts_team_id", columnList = "team_id"),
+        @Index(name = "idx_recruit_posts_writer_profile_id", columnList = "writer_profile_id"),
+        @Index(name = "idx_recruit_posts_status", columnList = "status"),
+        // 검색 조합: 카테고리 + 상태 (+ 지역) + 경기 날짜 범위. 검색 키셋 (match_date, id) 순서 그대로 읽도록 id까지
+        @Index(name = "idx_recruit_posts_category_status_date", columnList = "category, status, match_date, id"),
+        @Index(name = "idx_recruit_posts_category_status_region_date", columnList = "category, status, region, match_date, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -106,5 +116,19 @@ public class RecruitPost {
 
     @Column(name = "match_rules", columnDefinition = "TEXT")
     private String matchRules; // 경기 규칙 및 특이사항
+
+    // 신청 상태별 개수: 신청/상태 변경/삭제 시 UPDATE 쿼리로만 증감하므로 엔티티 저장 대상에서 제외
+    @ColumnDefault("0")
+    @Column(name = "accepted_count", nullable = false, insertable = false, updatable = false)
+    private Integer acceptedCount = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "pending_count", nullable = false, insertable = false, updatable = false)
+    private Integer pendingCount = 0;
+
+    // 행이 바뀔 때마다 DB가 갱신 (벌크 UPDATE 포함). ETag 버전으로 사용
+    @Column(name = "updated_at", insertable = false, updatable = false,
+            columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)")
+    private LocalDateTime updatedAt;
 }
 
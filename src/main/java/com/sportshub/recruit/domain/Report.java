@@ -8,7 +8,17 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reports")
+@Table(name = "reports", uniqueConstraints = {
+        // 같은 신고자가 같은 대상을 중복 신고하지 못하게 한다
+        @UniqueConstraint(name = "uk_reports_reporter_target", columnNames = {"reporter_id", "target_type", "target_id"})
+}, indexes = {
+        @Index(name = "idx_reports_target", columnList = "target_type, target_id"),
+        @Index(name = "idx_reports_reported_id", columnList = "reported_id"),
+        @Index(name = "idx_reports_status_severity", columnList = "status, severity"),
+        // 검토 대기열 선점(findClaimable): status로 좁힌 뒤 ORDER BY priority DESC, id 순서 그대로 읽는다.
+        // (status, priority)만 있으면 역방향 스캔 순서가 priority DESC, id DESC라 정렬이 따로 필요하다
+        @Index(name = "idx_reports_status_priority", columnList = "status, priority DESC, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -47,9 +57,17 @@ public class Report {
     @Column(length = 30)
     private String status = "PENDING";
 
+    // severity에서 파생되는 정렬 키 (높을수록 먼저 처리)
+    @Column(nullable = false)
+    private Integer priority = priorityOf("MEDIUM");
+
     @Column(name = "assigned_admin_id")
     private Long assignedAdminId;
 
+    // 선점(claim)으로 배정된 경우에만 설정. 만료되면 다른 관리자가 다시 선점할 수 있다
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
     @Column(columnDefinition = "TEXT")
     private String resolution;
 
@@ -61,4 +79,20 @@ public class Report {
 
     @Column(name = "updated_at", insertable = false, updatable = false)
     private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void syncPriority() {
+        priority = priorityOf(severity);
+    }
+
+    public static int priorityOf(String severity) {
+        if (severity == null) return 2;
+        return switch (severity) {
+            case "CRITICAL" -> 4;
+            case "HIGH" -> 3;
+            case "LOW" -> 1;
+            default -> 2;
+        };
+    }
 }
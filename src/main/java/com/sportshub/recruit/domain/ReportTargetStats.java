@@ -0,0 +1,37 @@
+package com.sportshub.recruit.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 신고 대상별 누적 집계. 신고 접수 시 upsert로 갱신되어 reports 전체를 다시 세지 않는다
+@Entity
+@Table(name = "report_target_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_report_target_stats_target", columnNames = {"target_type", "target_id"})
+}, indexes = {
+        @Index(name = "idx_report_target_stats_count", columnList = "report_count"),
+        @Index(name = "idx_report_target_stats_type_count", columnList = "target_type, report_count")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReportTargetStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "target_type", nullable = false, length = 50)
+    private String targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "report_count", nullable = false)
+    private Integer reportCount = 0;
+
+    @Column(name = "last_reported_at", nullable = false)
+    private LocalDateTime lastReportedAt;
+}
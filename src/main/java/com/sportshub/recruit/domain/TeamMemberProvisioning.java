@@ -0,0 +1,60 @@
+package com.sportshub.recruit.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 팀 모집 마감 후 승인된 신청자를 팀에 추가하는 작업. 신청자별로 결과를 남겨 실패분만 재시도한다
+@Entity
+@Table(name = "team_member_provisioning", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_team_member_provisioning_post_profile", columnNames = {"post_id", "profile_id"})
+}, indexes = {
+        @Index(name = "idx_team_member_provisioning_status_updated", columnList = "status, updated_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class TeamMemberProvisioning {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "profile_id", nullable = false)
+    private Long profileId;
+
+    @Column(nullable = false, length = 20)
+    private String status = "PENDING"; // PENDING, DONE, FAILED
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public TeamMemberProvisioning(Long postId, Long teamId, Long profileId) {
+        this.postId = postId;
+        this.teamId = teamId;
+        this.profileId = profileId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+}
@@ -0,0 +1,58 @@
+package com.sportshub.recruit.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 팀 일정 등록 대기열: 경기 확정 트랜잭션과 함께 저장되고 TeamScheduleDispatcher가 커밋 이후 팀 서비스에 등록한다
+@Entity
+@Table(name = "team_schedule_outbox", indexes = {
+        @Index(name = "idx_team_schedule_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class TeamScheduleOutbox implements OutboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "match_id", nullable = false)
+    private Long matchId;
+
+    @Column(nullable = false, length = 20)
+    private String status = "PENDING"; // PENDING, DEAD (등록에 성공한 행은 삭제)
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public TeamScheduleOutbox(Long teamId, Long matchId) {
+        this.teamId = teamId;
+        this.matchId = matchId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
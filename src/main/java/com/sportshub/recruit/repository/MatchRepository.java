@@ -2,13 +2,53 @@ package com.sportshub.recruit.repository;
 
 import com.sportshub.recruit.domain.Match;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface MatchRepository extends JpaRepository<Match, Long> {
+public interface MatchRepository extends JpaRepository<Match, Long>, JpaSpecificationExecutor<Match> {
     List<Match> findByStatus(String status);
     List<Match> findByMatchDate(LocalDate matchDate);
     List<Match> findByHomeTeamIdOrAwayTeamId(Long homeTeamId, Long awayTeamId);
     List<Match> findByMatchDateBetween(LocalDate startDate, LocalDate endDate);
+
+    // 홈/원정 조건을 OR로 묶으면 인덱스를 못 타므로 각각 (team_id, match_date, match_time) 인덱스로
+    // 정렬된 상위 :limit 건을 뽑아 합친다. 커서 이후 (match_date, match_time, id) 순
+    @Query(value = "SELECT * FROM (" +
+                   "  (SELECT m.* FROM matches m WHERE m.home_team_id = :teamId" + SCHEDULE_FILTER +
+                   "   ORDER BY m.match_date, m.match_time, m.id LIMIT :limit)" +
+                   "  UNION ALL" +
+                   "  (SELECT m.* FROM matches m WHERE m.away_team_id = :teamId AND m.home_team_id <> :teamId" + SCHEDULE_FILTER +
+                   "   ORDER BY m.match_date, m.match_time, m.id LIMIT :limit)" +
+                   ") t ORDER BY t.match_date, t.match_time, t.id LIMIT :limit",
+           nativeQuery = true)
+    List<Match> findTeamSchedule(@Param("teamId") Long teamId,
+                                 @Param("status") String status,
+                                 @Param("fromDate") LocalDate fromDate,
+                                 @Param("toDate") LocalDate toDate,
+                                 @Param("afterDate") LocalDate afterDate,
+                                 @Param("afterTime") LocalTime afterTime,
+                                 @Param("afterId") Long afterId,
+                                 @Param("limit") int limit);
+
+    String SCHEDULE_FILTER =
+            " AND (:status IS NULL OR m.status = :status)" +
+            " AND (:fromDate IS NULL OR m.match_date >= :fromDate)" +
+            " AND (:toDate IS NULL OR m.match_date <= :toDate)" +
+            " AND (:afterId IS NULL OR m.match_date > :afterDate" +
+            "      OR (m.match_date = :afterDate AND (m.match_time > :afterTime" +
+            "          OR (m.match_time = :afterTime AND m.id > :afterId))))";
+
+    interface MatchVersion {
+        LocalDateTime getUpdatedAt();
+    }
+
+    @Query("SELECT m.updatedAt AS updatedAt FROM Match m WHERE m.id = :id")
+    Optional<MatchVersion> findVersion(@Param("id") Long id);
 }
@@ -0,0 +1,25 @@
+package com.sportshub.recruit.repository;
+
+import com.sportshub.recruit.domain.NotificationOutbox;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends OutboxRepository<NotificationOutbox> {
+
+    // 발송할 알림 선점: 다른 인스턴스가 잠근 행은 건너뛴다
+    @Override
+    @Query(value = "SELECT * FROM notification_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutbox> findDispatchable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM notification_outbox WHERE status = 'SENT' AND sent_at < :before LIMIT :limit",
+           nativeQuery = true)
+    int deleteSentBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,16 @@
+package com.sportshub.recruit.repository;
+
+import com.sportshub.recruit.domain.OutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 아웃박스 테이블 공통: 각 리포지토리가 자기 테이블에 맞는 선점 쿼리를 붙인다
+@NoRepositoryBean
+public interface OutboxRepository<T extends OutboxEntry> extends JpaRepository<T, Long> {
+
+    // status = 'PENDING' AND next_attempt_at <= now 인 행을 id 순으로, 다른 인스턴스가 잠근 행은 건너뛰고 잠근다
+    List<T> findDispatchable(LocalDateTime now, int limit);
+}
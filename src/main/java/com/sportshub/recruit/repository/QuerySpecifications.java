@@ -0,0 +1,24 @@
+package com.sportshub.recruit.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+// 값이 비어 있으면 null을 반환하므로 Specification.allOf에 그대로 넘겨도 조건에서 빠진다
+public final class QuerySpecifications {
+
+    private QuerySpecifications() {
+    }
+
+    public static <T> Specification<T> equalTo(String attribute, Object value) {
+        if (value == null || (value instanceof String s && s.isBlank())) return null;
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    public static <T, Y extends Comparable<? super Y>> Specification<T> between(String attribute, Y from, Y to) {
+        if (from == null && to == null) return null;
+        return (root, query, cb) -> {
+            if (from == null) return cb.lessThanOrEqualTo(root.get(attribute), to);
+            if (to == null) return cb.greaterThanOrEqualTo(root.get(attribute), from);
+            return cb.between(root.get(attribute), from, to);
+        };
+    }
+}
@@ -1,22 +1,65 @@
 package com.sportshub.recruit.repository;
 
 import com.sportshub.recruit.domain.RecruitApplication;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface RecruitApplicationRepository extends JpaRepository<RecruitApplication, Long> {
     List<RecruitApplication> findByPostId(Long postId);
+    List<RecruitApplication> findByPostIdAndStatus(Long postId, String status);
     List<RecruitApplication> findByApplicantProfileId(Long applicantProfileId);
+    boolean existsByPostIdAndApplicantProfileId(Long postId, Long applicantProfileId);
+    boolean existsByPostIdAndMatchTeamId(Long postId, Long matchTeamId);
 
-    @Query("SELECT a FROM RecruitApplication a JOIN RecruitPost p ON a.postId = p.id " +
-           "WHERE p.writerProfileId = :profileId ORDER BY a.applicationDate DESC")
-    List<RecruitApplication> findByTeamProfile(@Param("profileId") Long profileId);
+    interface ApplicationsVersion {
+        Long getCount();
+        LocalDateTime getUpdatedAt();
+    }
 
-    // 승인된 신청 개수 조회
-    @Query("SELECT COUNT(a) FROM RecruitApplication a WHERE a.postId = :postId AND a.status = 'ACCEPTED'")
-    Long countAcceptedByPostId(@Param("postId") Long postId);
+    // 신청 목록의 조건부 GET용 버전: 건수(삭제 반영)와 마지막 변경 시각
+    @Query("SELECT COUNT(a) AS count, MAX(a.updatedAt) AS updatedAt FROM RecruitApplication a WHERE a.postId = :postId")
+    ApplicationsVersion findVersionByPostId(@Param("postId") Long postId);
+
+    // 현재 상태가 currentStatus일 때만 변경 (동시 상태 변경 감지)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RecruitApplication a SET a.status = :newStatus WHERE a.id = :id AND a.status = :currentStatus")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("currentStatus") String currentStatus,
+                              @Param("newStatus") String newStatus);
+
+    // 받은 신청함: (application_date, id) 내림차순 키셋. afterDate/afterId는 이전 페이지의 마지막 행
+    @Query("SELECT a FROM RecruitApplication a WHERE a.postWriterProfileId = :profileId " +
+           "AND (:status IS NULL OR a.status = :status) " +
+           "AND (:afterDate IS NULL OR a.applicationDate < :afterDate " +
+           "     OR (a.applicationDate = :afterDate AND a.id < :afterId)) " +
+           "ORDER BY a.applicationDate DESC, a.id DESC")
+    List<RecruitApplication> findReceived(@Param("profileId") Long profileId,
+                                          @Param("status") String status,
+                                          @Param("afterDate") LocalDateTime afterDate,
+                                          @Param("afterId") Long afterId,
+                                          Limit limit);
+
+    @Modifying
+    @Query("UPDATE RecruitApplication a SET a.postWriterProfileId = :writerProfileId WHERE a.postId = :postId")
+    int updatePostWriter(@Param("postId") Long postId, @Param("writerProfileId") Long writerProfileId);
+
+    interface StatusCounts {
+        Long getPostId();
+        Long getAccepted();
+        Long getPending();
+    }
+
+    // 게시글 id 구간의 상태별 신청 수 (카운터 재계산용)
+    @Query("SELECT a.postId AS postId, " +
+           "SUM(CASE WHEN a.status = 'ACCEPTED' THEN 1 ELSE 0 END) AS accepted, " +
+           "SUM(CASE WHEN a.status = 'PENDING' THEN 1 ELSE 0 END) AS pending " +
+           "FROM RecruitApplication a WHERE a.postId BETWEEN :fromId AND :toId GROUP BY a.postId")
+    List<StatusCounts> countByStatusForPosts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
 
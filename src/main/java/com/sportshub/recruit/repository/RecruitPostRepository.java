@@ -1,13 +1,88 @@
 package com.sportshub.recruit.repository;
 
 import com.sportshub.recruit.domain.RecruitPost;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface RecruitPostRepository extends JpaRepository<RecruitPost, Long> {
+public interface RecruitPostRepository extends JpaRepository<RecruitPost, Long>, JpaSpecificationExecutor<RecruitPost> {
     List<RecruitPost> findByTeamId(Long teamId);
     List<RecruitPost> findByWriterProfileId(Long writerProfileId);
     List<RecruitPost> findByStatus(String status);
     List<RecruitPost> findByCategory(String category);
+
+    interface PostVersion {
+        LocalDateTime getUpdatedAt();
+        Integer getAcceptedCount();
+    }
+
+    // 조건부 GET용 버전 조회 (본문 조립 전에 수행)
+    @Query("SELECT p.updatedAt AS updatedAt, p.acceptedCount AS acceptedCount FROM RecruitPost p WHERE p.id = :postId")
+    Optional<PostVersion> findVersion(@Param("postId") Long postId);
+
+    // 신청 상태 변경 전에 게시글 행을 먼저 잠근다 (SELECT ... FOR UPDATE).
+    // REPEATABLE READ 스냅샷은 첫 일반 조회에서 잡히므로, 잠금을 얻은 뒤 읽어야 앞서 커밋된 승인이 보인다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM RecruitPost p WHERE p.id = :postId")
+    Optional<RecruitPost> findByIdForUpdate(@Param("postId") Long postId);
+
+    @Query("SELECT MAX(p.id) FROM RecruitPost p")
+    Long findMaxId();
+
+    // 신청 상태 변화에 따른 카운터 증감
+    @Modifying
+    @Query("UPDATE RecruitPost p SET p.acceptedCount = p.acceptedCount + :acceptedDelta, " +
+           "p.pendingCount = p.pendingCount + :pendingDelta WHERE p.id = :postId")
+    int adjustApplicationCounts(@Param("postId") Long postId,
+                                @Param("acceptedDelta") int acceptedDelta,
+                                @Param("pendingDelta") int pendingDelta);
+
+    // 정원(requiredPersonnel) 미만일 때만 승인 수 +1
+    @Modifying
+    @Query("UPDATE RecruitPost p SET p.acceptedCount = p.acceptedCount + 1, " +
+           "p.pendingCount = p.pendingCount + :pendingDelta " +
+           "WHERE p.id = :postId AND (p.requiredPersonnel IS NULL OR p.acceptedCount < p.requiredPersonnel)")
+    int incrementAcceptedWithinQuota(@Param("postId") Long postId, @Param("pendingDelta") int pendingDelta);
+
+    // 정원이 찬 경우에만 마감. 갱신 건수 1은 이 호출이 마감시켰다는 뜻
+    @Modifying
+    @Query("UPDATE RecruitPost p SET p.status = 'COMPLETED' WHERE p.id = :postId AND p.status <> 'COMPLETED' " +
+           "AND p.requiredPersonnel IS NOT NULL AND p.acceptedCount >= p.requiredPersonnel")
+    int completeIfQuotaMet(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE RecruitPost p SET p.status = 'COMPLETED' WHERE p.id = :postId AND p.status <> 'COMPLETED'")
+    int completeIfOpen(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE RecruitPost p SET p.matchId = :matchId WHERE p.id = :postId")
+    int linkMatch(@Param("postId") Long postId, @Param("matchId") Long matchId);
+
+    interface PostCounts {
+        Long getId();
+        Integer getAcceptedCount();
+        Integer getPendingCount();
+    }
+
+    // 카운터 재계산 전에 구간의 게시글 행을 잠근다. 카운터를 먼저 갱신한 트랜잭션은 커밋될 때까지 기다리고,
+    // 잠근 뒤에는 신청/승인이 카운터를 갱신하지 못하므로 집계 결과를 덮어쓰지 않는다
+    @Query(value = "SELECT id AS id, accepted_count AS acceptedCount, pending_count AS pendingCount " +
+                   "FROM recruit_posts WHERE id BETWEEN :fromId AND :toId ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<PostCounts> lockApplicationCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query("UPDATE RecruitPost p SET p.acceptedCount = :acceptedCount, p.pendingCount = :pendingCount WHERE p.id = :postId")
+    int setApplicationCounts(@Param("postId") Long postId,
+                             @Param("acceptedCount") int acceptedCount,
+                             @Param("pendingCount") int pendingCount);
+
 }
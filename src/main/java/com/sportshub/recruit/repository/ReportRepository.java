@@ -2,7 +2,12 @@ package com.sportshub.recruit.repository;
 
 import com.sportshub.recruit.domain.Report;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
@@ -12,4 +17,33 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
     List<Report> findByTargetTypeAndTargetId(String targetType, Long targetId);
     List<Report> findBySeverity(String severity);
     List<Report> findByCategory(String category);
+
+    boolean existsByReporterIdAndTargetTypeAndTargetId(Long reporterId, String targetType, Long targetId);
+
+    // 신고 누적으로 심각도가 올라가면 같은 대상의 대기 중인 신고도 함께 올린다
+    @Modifying
+    @Query("UPDATE Report r SET r.severity = :severity, r.priority = :priority " +
+           "WHERE r.targetType = :targetType AND r.targetId = :targetId AND r.status = 'PENDING' " +
+           "AND r.priority < :priority")
+    int escalatePending(@Param("targetType") String targetType, @Param("targetId") Long targetId,
+                        @Param("severity") String severity, @Param("priority") int priority);
+
+    // 검토할 신고 선점: 미배정이거나 lease가 만료된 PENDING 신고를 priority, 접수 순으로.
+    // 다른 관리자가 잠근 행은 건너뛴다
+    @Query(value = "SELECT * FROM reports WHERE status = 'PENDING' " +
+                   "AND (assigned_admin_id IS NULL OR lease_expires_at < :now) " +
+                   "ORDER BY priority DESC, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Report> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Report r SET r.leaseExpiresAt = :until " +
+           "WHERE r.id = :id AND r.assignedAdminId = :adminId AND r.leaseExpiresAt IS NOT NULL AND r.status = 'PENDING'")
+    int renewLease(@Param("id") Long id, @Param("adminId") Long adminId, @Param("until") LocalDateTime until);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Report r SET r.assignedAdminId = NULL, r.leaseExpiresAt = NULL " +
+           "WHERE r.id = :id AND r.assignedAdminId = :adminId AND r.leaseExpiresAt IS NOT NULL")
+    int releaseLease(@Param("id") Long id, @Param("adminId") Long adminId);
 }
@@ -0,0 +1,35 @@
+package com.sportshub.recruit.repository;
+
+import com.sportshub.recruit.domain.ReportTargetStats;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReportTargetStatsRepository extends JpaRepository<ReportTargetStats, Long> {
+
+    // 대상별 행이 없으면 만들고, 있으면 행 잠금 후 1 증가 (호출한 쪽 트랜잭션에서 실행)
+    @Modifying
+    @Query(value = "INSERT INTO report_target_stats (target_type, target_id, report_count, last_reported_at) " +
+                   "VALUES (:targetType, :targetId, 1, :now) " +
+                   "ON DUPLICATE KEY UPDATE report_count = report_count + 1, last_reported_at = :now",
+           nativeQuery = true)
+    void increment(@Param("targetType") String targetType, @Param("targetId") Long targetId,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ReportTargetStats s SET s.reportCount = s.reportCount - 1 " +
+           "WHERE s.targetType = :targetType AND s.targetId = :targetId AND s.reportCount > 0")
+    int decrement(@Param("targetType") String targetType, @Param("targetId") Long targetId);
+
+    @Query("SELECT s.reportCount FROM ReportTargetStats s WHERE s.targetType = :targetType AND s.targetId = :targetId")
+    Integer findReportCount(@Param("targetType") String targetType, @Param("targetId") Long targetId);
+
+    List<ReportTargetStats> findAllByOrderByReportCountDesc(Limit limit);
+
+    List<ReportTargetStats> findByTargetTypeOrderByReportCountDesc(String targetType, Limit limit);
+}
@@ -0,0 +1,50 @@
+package com.sportshub.recruit.repository;
+
+import com.sportshub.recruit.domain.TeamMemberProvisioning;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TeamMemberProvisioningRepository extends JpaRepository<TeamMemberProvisioning, Long> {
+    List<TeamMemberProvisioning> findByPostIdOrderById(Long postId);
+
+    // 처리되지 않았고 한동안 갱신되지 않은 작업 (실패했거나 처리 중 인스턴스가 종료된 경우)
+    @Query("SELECT t FROM TeamMemberProvisioning t WHERE t.status <> 'DONE' AND t.attempts < :maxAttempts " +
+           "AND t.updatedAt < :before ORDER BY t.id")
+    List<TeamMemberProvisioning> findRetryable(@Param("maxAttempts") int maxAttempts,
+                                               @Param("before") LocalDateTime before,
+                                               Limit limit);
+
+    // 재시도 선점: 다른 인스턴스가 먼저 가져갔다면 0건. 처리 중인 작업은 PENDING으로 두어 수동 재시도 대상에서 빠진다
+    @Transactional
+    @Modifying
+    @Query("UPDATE TeamMemberProvisioning t SET t.status = 'PENDING', t.updatedAt = :now " +
+           "WHERE t.id = :id AND t.status <> 'DONE' AND t.updatedAt < :before")
+    int claim(@Param("id") Long id, @Param("before") LocalDateTime before, @Param("now") LocalDateTime now);
+
+    // 수동 재시도 선점: 조회 이후 retryStale이나 다른 재시도 요청이 먼저 갱신했다면 0건
+    @Transactional
+    @Modifying
+    @Query("UPDATE TeamMemberProvisioning t SET t.status = 'PENDING', t.attempts = 0, t.updatedAt = :now " +
+           "WHERE t.id = :id AND t.status = 'FAILED' AND t.updatedAt = :seen")
+    int claimFailed(@Param("id") Long id, @Param("seen") LocalDateTime seen, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE TeamMemberProvisioning t SET t.status = 'DONE', t.attempts = t.attempts + 1, " +
+           "t.lastError = NULL, t.updatedAt = :now WHERE t.id IN :ids")
+    int markDone(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE TeamMemberProvisioning t SET t.status = 'FAILED', t.attempts = t.attempts + 1, " +
+           "t.lastError = :error, t.updatedAt = :now WHERE t.id IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("error") String error, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,17 @@
+package com.sportshub.recruit.repository;
+
+import com.sportshub.recruit.domain.TeamScheduleOutbox;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TeamScheduleOutboxRepository extends OutboxRepository<TeamScheduleOutbox> {
+
+    // 등록할 일정 선점: 다른 인스턴스가 잠근 행은 건너뛴다
+    @Override
+    @Query(value = "SELECT * FROM team_schedule_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<TeamScheduleOutbox> findDispatchable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,66 @@
+package com.sportshub.recruit.service;
+
+import com.sportshub.recruit.repository.RecruitApplicationRepository;
+import com.sportshub.recruit.repository.RecruitApplicationRepository.StatusCounts;
+import com.sportshub.recruit.repository.RecruitPostRepository;
+import com.sportshub.recruit.repository.RecruitPostRepository.PostCounts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// recruit_posts의 신청 카운터가 실제 신청 건수와 어긋난 경우 주기적으로 바로잡는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationCountReconciler {
+    // 구간마다 게시글 행을 잠그므로 신청/승인이 기다리는 시간을 짧게 유지한다
+    private static final long BATCH_SIZE = 200;
+
+    private final RecruitPostRepository recruitPostRepository;
+    private final RecruitApplicationRepository applicationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(initialDelayString = "${recruit.counters.reconcile-initial-delay-ms:60000}",
+               fixedDelayString = "${recruit.counters.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        Long maxId = recruitPostRepository.findMaxId();
+        if (maxId == null) return;
+
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += BATCH_SIZE) {
+            long toId = fromId + BATCH_SIZE - 1;
+            long from = fromId;
+            repaired += transactionTemplate.execute(tx -> reconcileRange(from, toId));
+        }
+        if (repaired > 0) {
+            log.warn("Repaired application counters on {} posts", repaired);
+        }
+    }
+
+    // 게시글 행을 먼저 잠근 뒤 신청 수를 센다. 카운터를 갱신하는 쪽(apply/updateStatus/delete)은 신청 행을 바꾼 다음
+    // 게시글 행을 갱신하므로, 잠금 이후의 집계에 빠진 신청은 이 트랜잭션이 커밋된 뒤 자기 증감분을 더한다
+    private int reconcileRange(long fromId, long toId) {
+        List<PostCounts> posts = recruitPostRepository.lockApplicationCounts(fromId, toId);
+        if (posts.isEmpty()) return 0;
+
+        Map<Long, StatusCounts> actual = applicationRepository.countByStatusForPosts(fromId, toId).stream()
+                .collect(Collectors.toMap(StatusCounts::getPostId, Function.identity()));
+        int repaired = 0;
+        for (PostCounts post : posts) {
+            StatusCounts counts = actual.get(post.getId());
+            int accepted = counts == null ? 0 : counts.getAccepted().intValue();
+            int pending = counts == null ? 0 : counts.getPending().intValue();
+            if (post.getAcceptedCount() != accepted || post.getPendingCount() != pending) {
+                repaired += recruitPostRepository.setApplicationCounts(post.getId(), accepted, pending);
+            }
+        }
+        return repaired;
+    }
+}
@@ -1,23 +1,27 @@
 package com.sportshub.recruit.service;
 
+import com.sportshub.recruit.client.TeamServiceClient;
 import com.sportshub.recruit.domain.RecruitApplication;
 import com.sportshub.recruit.domain.RecruitPost;
 import com.sportshub.recruit.domain.Match;
 import com.sportshub.recruit.repository.RecruitApplicationRepository;
+import com.sportshub.recruit.repository.RecruitApplicationRepository.ApplicationsVersion;
 import com.sportshub.recruit.repository.RecruitPostRepository;
 import com.sportshub.recruit.repository.MatchRepository;
 import lombok.RequiredArgsConstructor;
+import com.sportshub.recruit.web.dto.RecruitDtos.ApplicationCursor;
+import com.sportshub.recruit.web.dto.RecruitDtos.CursorPage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @Slf4j
 @Service
@@ -26,19 +30,58 @@ public class ApplicationService {
     private final RecruitApplicationRepository applicationRepository;
     private final RecruitPostRepository recruitPostRepository;
     private final MatchRepository matchRepository;
-    private final RestTemplate restTemplate;
+    private final TeamServiceClient teamServiceClient;
+    private final NotificationOutboxService notificationOutboxService;
+    private final TeamProvisioningService teamProvisioningService;
+    private final TeamScheduleOutboxService teamScheduleOutboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkInserts bulkInserts;
 
-    @Value("${team.service.url:http://sportshub-team:8083}")
-    private String teamServiceUrl;
+    @Value("${recruit.applications.default-page-size:20}")
+    private int defaultPageSize;
 
-    @Value("${notification.service.url:http://sportshub-notification:8085}")
-    private String notificationServiceUrl;
+    @Value("${recruit.applications.max-page-size:100}")
+    private int maxPageSize;
 
-    @Transactional
+    @Value("${recruit.bulk.max-size:500}")
+    private int bulkMaxSize;
+
+    // 팀 서비스 조회는 트랜잭션 밖에서 먼저 끝낸다. 원격 응답을 기다리는 동안 DB 커넥션을 붙잡지 않도록
     public RecruitApplication apply(Long postId, RecruitApplication a) {
         // Check if post exists
         RecruitPost post = recruitPostRepository.findById(postId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "post not found"));
+        prepareApplication(post, a);
+        return transactionTemplate.execute(tx -> insertApplication(post, a));
+    }
+
+    // 한 모집글에 여러 신청을 한 번에 등록. 검증은 apply와 같고, 저장/건수 갱신/알림은 한 트랜잭션에서 한 번씩
+    public List<RecruitApplication> applyAll(Long postId, List<RecruitApplication> applications) {
+        if (applications.isEmpty() || applications.size() > bulkMaxSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "bulk size must be between 1 and " + bulkMaxSize);
+        }
+        RecruitPost post = recruitPostRepository.findById(postId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "post not found"));
+        applications.forEach(a -> prepareApplication(post, a));
+        return transactionTemplate.execute(tx -> insertApplications(post, applications));
+    }
+
+    private void prepareApplication(RecruitPost post, RecruitApplication a) {
+        Long postId = post.getId();
+        // 신청은 항상 PENDING으로 시작한다. 승인/거절은 updateStatus로만 (정원 검사, 마감, 팀원 추가를 우회하지 않도록)
+        if (a.getStatus() != null && !a.getStatus().isBlank() && !"PENDING".equals(a.getStatus())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "status must be PENDING when applying");
+        }
+        // Duplicate checks first: index lookups on (post_id, applicant_profile_id) / (post_id, match_team_id)
+        if (applicationRepository.existsByPostIdAndApplicantProfileId(postId, a.getApplicantProfileId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Already applied to this post");
+        }
+        // 팀당 한 번은 경기 모집글에만. 팀/용병 모집에는 같은 팀 소속 여러 명이 신청할 수 있다
+        boolean match = "MATCH".equals(post.getCategory());
+        if (match && a.getApplicantTeamId() != null
+                && applicationRepository.existsByPostIdAndMatchTeamId(postId, a.getApplicantTeamId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "This team already applied to this match");
+        }
 
         // For TEAM category, prevent duplicate applications from existing team members
         if ("TEAM".equals(post.getCategory())) {
@@ -46,58 +89,63 @@ public class ApplicationService {
             if (isAlreadyMember) {
                 throw new ResponseStatusException(HttpStatus.CONFLICT, "Already a member of this team");
             }
-
-            // Also check if user already applied to this post
-            boolean alreadyApplied = applicationRepository.findByPostId(postId).stream()
-                    .anyMatch(app -> app.getApplicantProfileId().equals(a.getApplicantProfileId()));
-            if (alreadyApplied) {
-                throw new ResponseStatusException(HttpStatus.CONFLICT, "Already applied to this post");
-            }
         }
 
         // For MATCH category, verify applicant is captain of the team
-        if ("MATCH".equals(post.getCategory()) && a.getApplicantTeamId() != null) {
+        if (match && a.getApplicantTeamId() != null) {
             boolean isCaptain = checkIfTeamCaptain(a.getApplicantTeamId(), a.getApplicantProfileId());
             if (!isCaptain) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only team captain can apply for matches");
             }
-
-            // Also check if team already applied to this post
-            boolean teamAlreadyApplied = applicationRepository.findByPostId(postId).stream()
-                    .anyMatch(app -> app.getApplicantTeamId() != null &&
-                                    app.getApplicantTeamId().equals(a.getApplicantTeamId()));
-            if (teamAlreadyApplied) {
-                throw new ResponseStatusException(HttpStatus.CONFLICT, "This team already applied to this match");
-            }
         }
 
         a.setPostId(postId);
-        if (a.getStatus() == null || a.getStatus().isBlank()) a.setStatus("PENDING");
-        RecruitApplication saved = applicationRepository.save(a);
+        a.setPostWriterProfileId(post.getWriterProfileId());
+        a.setMatchTeamId(match ? a.getApplicantTeamId() : null);
+        a.setStatus("PENDING");
+    }
+
+    private List<RecruitApplication> insertApplications(RecruitPost post, List<RecruitApplication> applications) {
+        List<RecruitApplication> saved;
+        try {
+            saved = bulkInserts.insertApplications(applications);
+        } catch (DataIntegrityViolationException e) {
+            // 묶음 안의 중복이나 동시에 들어온 신청과의 중복
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Duplicate application in bulk request");
+        }
+        // prepareApplication에서 모두 PENDING으로 맞춰 두었다
+        recruitPostRepository.adjustApplicationCounts(post.getId(), 0, saved.size());
+
+        String categoryName = "MERCENARY".equals(post.getCategory()) ? "용병" :
+                              "TEAM".equals(post.getCategory()) ? "팀" : "경기";
+        String message = String.format("회원님의 %s 모집글에 새로운 지원자가 %d명 있습니다.", categoryName, saved.size());
+        notificationOutboxService.enqueue(post.getWriterProfileId(), "NEW_APPLICATION", message, "RECRUIT_POST", post.getId());
+        return saved;
+    }
+
+    private RecruitApplication insertApplication(RecruitPost post, RecruitApplication a) {
+        Long postId = post.getId();
+        RecruitApplication saved;
+        try {
+            saved = applicationRepository.saveAndFlush(a);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 중복 신청은 유니크 제약으로 걸러진다
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Already applied to this post");
+        }
+        adjustCounts(postId, null, saved.getStatus());
 
         // 모집글 작성자에게 새로운 신청 알림 전송
         String categoryName = "MERCENARY".equals(post.getCategory()) ? "용병" :
                               "TEAM".equals(post.getCategory()) ? "팀" : "경기";
         String message = String.format("회원님의 %s 모집글에 새로운 지원자가 있습니다.", categoryName);
-        sendNotification(post.getWriterProfileId(), "NEW_APPLICATION", message, "RECRUIT_POST", postId);
+        notificationOutboxService.enqueue(post.getWriterProfileId(), "NEW_APPLICATION", message, "RECRUIT_POST", postId);
 
         return saved;
     }
 
     private boolean checkIfAlreadyTeamMember(Long teamId, Long profileId) {
         try {
-            String url = teamServiceUrl + "/api/teams/" + teamId + "/members";
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
-
-            if (response != null && response.containsKey("content")) {
-                List<Map<String, Object>> members = (List<Map<String, Object>>) response.get("content");
-                return members.stream()
-                        .anyMatch(member -> {
-                            Object pid = member.get("profileId");
-                            return pid != null && pid.equals(profileId.intValue());
-                        });
-            }
-            return false;
+            return teamServiceClient.getRoster(teamId).isMember(profileId);
         } catch (Exception e) {
             log.warn("Failed to check team membership for profile {} in team {}: {}",
                     profileId, teamId, e.getMessage());
@@ -107,27 +155,7 @@ public class ApplicationService {
 
     private boolean checkIfTeamCaptain(Long teamId, Long profileId) {
         try {
-            String url = teamServiceUrl + "/api/teams/" + teamId + "/members";
-            List<Map<String, Object>> members = restTemplate.getForObject(url, List.class);
-
-            if (members != null) {
-                return members.stream()
-                        .anyMatch(member -> {
-                            Map<String, Object> id = (Map<String, Object>) member.get("id");
-                            String role = (String) member.get("roleInTeam");
-                            Boolean isActive = (Boolean) member.get("isActive");
-
-                            if (id != null && role != null && isActive != null) {
-                                Object pid = id.get("profileId");
-                                return pid != null &&
-                                       pid.equals(profileId.intValue()) &&
-                                       "CAPTAIN".equals(role) &&
-                                       isActive;
-                            }
-                            return false;
-                        });
-            }
-            return false;
+            return teamServiceClient.getRoster(teamId).isCaptain(profileId);
         } catch (Exception e) {
             log.warn("Failed to check team captain for profile {} in team {}: {}",
                     profileId, teamId, e.getMessage());
@@ -135,6 +163,11 @@ public class ApplicationService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public ApplicationsVersion getListVersion(Long postId) {
+        return applicationRepository.findVersionByPostId(postId);
+    }
+
     @Transactional(readOnly = true)
     public List<RecruitApplication> listByPost(Long postId) {
         return applicationRepository.findByPostId(postId);
@@ -145,124 +178,136 @@ public class ApplicationService {
         return applicationRepository.findByApplicantProfileId(applicantProfileId);
     }
 
+    // 내 모집글에 들어온 신청, 최신순
     @Transactional(readOnly = true)
-    public List<RecruitApplication> listByTeamProfile(Long teamProfileId) {
-        return applicationRepository.findByTeamProfile(teamProfileId);
+    public CursorPage<RecruitApplication> listReceived(Long writerProfileId, String status, String cursor, Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        ApplicationCursor after = ApplicationCursor.decode(cursor);
+        List<RecruitApplication> applications = applicationRepository.findReceived(writerProfileId,
+                status == null || status.isBlank() ? null : status,
+                after == null ? null : after.applicationDate(),
+                after == null ? null : after.id(),
+                Limit.of(pageSize + 1));
+
+        boolean hasNext = applications.size() > pageSize;
+        if (hasNext) applications = applications.subList(0, pageSize);
+        String nextCursor = hasNext ? ApplicationCursor.of(applications.get(applications.size() - 1)).encode() : null;
+        return new CursorPage<>(applications, hasNext, nextCursor);
     }
 
+    // 게시글 행 잠금 -> 신청 행 순서로 잠근다 (delete, 카운터 보정과 같은 순서).
+    // 잠금을 얻은 뒤에 읽으므로 MySQL REPEATABLE READ에서도 먼저 커밋된 승인이 모두 보인다
     @Transactional
     public RecruitApplication updateStatus(Long postId, Long applicationId, String status) {
+        RecruitPost post = recruitPostRepository.findByIdForUpdate(postId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "post not found"));
+
         RecruitApplication a = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "application not found"));
         if (!a.getPostId().equals(postId)) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "application not found");
 
+        // 같은 상태로의 변경은 무시한다 (중복 승인 시 알림/마감 로직 재실행 방지)
+        String oldStatus = a.getStatus();
+        if (status.equals(oldStatus)) return a;
+
+        // 조회 이후 다른 요청이 먼저 상태를 바꿨다면 0건이 갱신된다
+        if (applicationRepository.updateStatusIfCurrent(applicationId, oldStatus, status) == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "application status was changed concurrently");
+        }
+
+        int acceptedDelta = countDelta("ACCEPTED", oldStatus, status);
+        int pendingDelta = countDelta("PENDING", oldStatus, status);
+        if ("TEAM".equals(post.getCategory()) && acceptedDelta > 0) {
+            // 정원이 남아 있을 때만 승인 수를 올린다. 동시 승인은 위의 게시글 행 잠금으로 직렬화된다
+            if (recruitPostRepository.incrementAcceptedWithinQuota(postId, pendingDelta) == 0) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Recruitment quota already filled");
+            }
+        } else if (acceptedDelta != 0 || pendingDelta != 0) {
+            recruitPostRepository.adjustApplicationCounts(postId, acceptedDelta, pendingDelta);
+        }
         a.setStatus(status);
-        RecruitApplication saved = applicationRepository.save(a);
 
         // 신청자에게 알림 전송
-        RecruitPost post = recruitPostRepository.findById(postId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "post not found"));
-
         String categoryName = "MERCENARY".equals(post.getCategory()) ? "용병" :
                               "TEAM".equals(post.getCategory()) ? "팀" : "경기";
 
         if ("ACCEPTED".equals(status)) {
             String message = String.format("축하합니다! %s 신청이 승인되었습니다.", categoryName);
-            sendNotification(a.getApplicantProfileId(), "APPLICATION_APPROVED", message, "RECRUIT_POST", postId);
+            notificationOutboxService.enqueue(a.getApplicantProfileId(), "APPLICATION_APPROVED", message, "RECRUIT_POST", postId);
         } else if ("REJECTED".equals(status)) {
             String message = String.format("죄송합니다. %s 신청이 거절되었습니다.", categoryName);
-            sendNotification(a.getApplicantProfileId(), "APPLICATION_REJECTED", message, "RECRUIT_POST", postId);
+            notificationOutboxService.enqueue(a.getApplicantProfileId(), "APPLICATION_REJECTED", message, "RECRUIT_POST", postId);
         }
 
         // Auto-closure logic for TEAM category recruitment
         if ("ACCEPTED".equals(status)) {
-            if ("TEAM".equals(post.getCategory()) && !"COMPLETED".equals(post.getStatus())) {
-                // Count accepted applications
-                long acceptedCount = applicationRepository.findByPostId(postId).stream()
-                        .filter(app -> "ACCEPTED".equals(app.getStatus()))
-                        .count();
-
-                log.info("Post {}: accepted count = {}, required = {}", postId, acceptedCount, post.getRequiredPersonnel());
-
-                // If quota is met, close recruitment and add members to team
-                if (acceptedCount >= post.getRequiredPersonnel()) {
-                    post.setStatus("COMPLETED");
-                    recruitPostRepository.save(post);
-                    log.info("Post {} auto-closed: quota met", postId);
-
-                    // Batch add all accepted applicants to team
-                    List<RecruitApplication> acceptedApps = applicationRepository.findByPostId(postId).stream()
-                            .filter(app -> "ACCEPTED".equals(app.getStatus()))
-                            .toList();
-
-                    for (RecruitApplication app : acceptedApps) {
-                        try {
-                            addMemberToTeam(post.getTeamId(), app.getApplicantProfileId());
-                        } catch (Exception e) {
-                            log.error("Failed to add profile {} to team {}: {}",
-                                    app.getApplicantProfileId(), post.getTeamId(), e.getMessage());
-                        }
-                    }
-                    log.info("Added {} members to team {}", acceptedApps.size(), post.getTeamId());
+            if ("TEAM".equals(post.getCategory())) {
+                // OPEN -> COMPLETED 전환은 조건부 UPDATE로 정확히 한 번만 일어난다 (requiredPersonnel 미지정 시 마감하지 않음)
+                if (recruitPostRepository.completeIfQuotaMet(postId) == 1) {
+                    log.info("Post {} auto-closed: quota met ({} required)", postId, post.getRequiredPersonnel());
+
+                    // 승인자 팀 추가는 커밋 이후 비동기로 처리된다
+                    List<RecruitApplication> acceptedApps = applicationRepository.findByPostIdAndStatus(postId, "ACCEPTED");
+                    teamProvisioningService.enqueue(postId, post.getTeamId(), acceptedApps);
                 }
             }
             // Match creation logic for MATCH category
-            else if ("MATCH".equals(post.getCategory()) && !"COMPLETED".equals(post.getStatus())) {
+            else if ("MATCH".equals(post.getCategory())) {
                 // Create match between home team (post author's team) and away team (applicant's team)
                 if (a.getApplicantTeamId() == null) {
                     log.warn("Application {} has no applicantTeamId, cannot create match", applicationId);
+                } else if (recruitPostRepository.completeIfOpen(postId) == 0) {
+                    log.info("Post {} already completed, no match created for application {}", postId, applicationId);
                 } else {
                     Match match = createMatch(post, a);
                     log.info("Match {} created for post {}: Team {} vs Team {}",
                             match.getId(), postId, post.getTeamId(), a.getApplicantTeamId());
 
+                    // Link match and post
+                    recruitPostRepository.linkMatch(postId, match.getId());
+                    log.info("Post {} completed and linked to match {}", postId, match.getId());
+
                     // 양팀에게 경기 확정 알림 전송
                     String matchMessage = String.format("경기가 확정되었습니다. %s, %s",
                             match.getMatchDate() != null ? match.getMatchDate().toString() : "일정 미정",
                             match.getMatchTime() != null ? match.getMatchTime() : "시간 미정");
                     // 홈팀과 원정팀의 캡틴이나 멤버들에게 알림 (간단히 팀별로 한 개씩만 전송)
                     // 실제로는 팀의 모든 멤버에게 보내야 하지만, 여기서는 신청자에게만 보냄
-                    sendNotification(a.getApplicantProfileId(), "MATCH_CONFIRMED", matchMessage, "MATCH", match.getId());
-                    sendNotification(post.getWriterProfileId(), "MATCH_CONFIRMED", matchMessage, "MATCH", match.getId());
+                    notificationOutboxService.enqueue(a.getApplicantProfileId(), "MATCH_CONFIRMED", matchMessage, "MATCH", match.getId());
+                    notificationOutboxService.enqueue(post.getWriterProfileId(), "MATCH_CONFIRMED", matchMessage, "MATCH", match.getId());
 
-                    // Link match and post
-                    post.setMatchId(match.getId());
-                    post.setStatus("COMPLETED");
-                    recruitPostRepository.save(post);
-                    log.info("Post {} completed and linked to match {}", postId, match.getId());
-
-                    // Add match to both teams' schedules
-                    try {
-                        addMatchToTeamSchedule(post.getTeamId(), match.getId());
-                        addMatchToTeamSchedule(a.getApplicantTeamId(), match.getId());
-                        log.info("Match {} added to schedules of teams {} and {}",
-                                match.getId(), post.getTeamId(), a.getApplicantTeamId());
-                    } catch (Exception e) {
-                        log.error("Failed to add match {} to team schedules: {}", match.getId(), e.getMessage());
-                    }
+                    // 양팀 일정 등록은 커밋 이후 TeamScheduleDispatcher가 처리한다 (원격 호출 동안 DB 커넥션을 붙잡지 않도록)
+                    teamScheduleOutboxService.enqueue(post.getTeamId(), match.getId());
+                    teamScheduleOutboxService.enqueue(a.getApplicantTeamId(), match.getId());
                 }
             }
         }
 
-        return saved;
-    }
-
-    private void addMemberToTeam(Long teamId, Long profileId) {
-        String url = teamServiceUrl + "/api/teams/" + teamId + "/members";
-        Map<String, Object> request = new HashMap<>();
-        request.put("profileId", profileId);
-        request.put("roleInTeam", "MEMBER");
-
-        restTemplate.postForEntity(url, request, Map.class);
-        log.info("Added profile {} to team {} as MEMBER", profileId, teamId);
+        return a;
     }
 
     @Transactional
     public void delete(Long postId, Long applicationId) {
+        // updateStatus와 같은 잠금 순서 (게시글 -> 신청)
+        if (recruitPostRepository.findByIdForUpdate(postId).isEmpty()) return;
         RecruitApplication a = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NO_CONTENT));
         if (!a.getPostId().equals(postId)) return;
         applicationRepository.delete(a);
+        adjustCounts(postId, a.getStatus(), null);
+    }
+
+    // 게시글의 accepted_count / pending_count 증감
+    private void adjustCounts(Long postId, String oldStatus, String newStatus) {
+        int acceptedDelta = countDelta("ACCEPTED", oldStatus, newStatus);
+        int pendingDelta = countDelta("PENDING", oldStatus, newStatus);
+        if (acceptedDelta != 0 || pendingDelta != 0) {
+            recruitPostRepository.adjustApplicationCounts(postId, acceptedDelta, pendingDelta);
+        }
+    }
+
+    private static int countDelta(String counted, String oldStatus, String newStatus) {
+        return (counted.equals(newStatus) ? 1 : 0) - (counted.equals(oldStatus) ? 1 : 0);
     }
 
     private Match createMatch(RecruitPost post, RecruitApplication application) {
@@ -277,39 +322,4 @@ public class ApplicationService {
 
         return matchRepository.save(match);
     }
-
-    private void addMatchToTeamSchedule(Long teamId, Long matchId) {
-        String url = teamServiceUrl + "/api/teams/" + teamId + "/schedules";
-        Map<String, Object> request = new HashMap<>();
-        request.put("matchId", matchId);
-        request.put("eventType", "MATCH");
-
-        restTemplate.postForEntity(url, request, Map.class);
-        log.info("Added match {} to team {} schedule", matchId, teamId);
-    }
-
-    // 알림 생성 헬퍼 메서드
-    private void sendNotification(Long receiverProfileId, String type, String message, String relatedType, Long relatedId) {
-        try {
-            String url = notificationServiceUrl + "/api/notifications";
-            Map<String, Object> request = new HashMap<>();
-            request.put("receiverProfileId", receiverProfileId);
-            request.put("receiverId", receiverProfileId); // receiverId도 같이 보냄
-            request.put("type", type);
-            request.put("message", message);
-            if (relatedType != null) {
-                request.put("relatedType", relatedType);
-            }
-            if (relatedId != null) {
-                request.put("relatedId", relatedId);
-            }
-
-            restTemplate.postForEntity(url, request, Map.class);
-            log.info("Notification sent to profile {}: {}", receiverProfileId, type);
-        } catch (Exception e) {
-            log.error("Failed to send notification to profile {}: {}", receiverProfileId, e.getMessage());
-            // 알림 전송 실패해도 메인 로직은 계속 진행
-        }
-    }
 }
-
@@ -0,0 +1,135 @@
+package com.sportshub.recruit.service;
+
+import com.sportshub.recruit.domain.Match;
+import com.sportshub.recruit.domain.RecruitApplication;
+import com.sportshub.recruit.domain.RecruitPost;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+// 벌크 등록 API의 INSERT. IDENTITY id 엔티티는 Hibernate가 JDBC 배치로 묶지 않으므로 JdbcTemplate.batchUpdate로
+// 한 번에 보내고(MySQL 드라이버가 rewriteBatchedStatements로 multi-row INSERT로 합친다), 생성된 id를 순서대로 채운다.
+// insertable = false 컬럼(created_at, updated_at, 신청 수 카운터)은 엔티티 저장과 같이 DB 기본값을 쓴다
+@Component
+public class BulkInserts {
+    private static final String MATCH_SQL = insertSql("matches",
+            "match_date", "match_time", "venue", "venue_id", "venue_url", "home_team_id", "away_team_id",
+            "home_score", "away_score", "status", "recruit_post_id", "referee", "weather", "temperature");
+    private static final String POST_SQL = insertSql("recruit_posts",
+            "team_id", "writer_profile_id", "title", "content", "region", "sub_region", "image_url",
+            "match_date", "game_time", "category", "target_type", "status", "match_id",
+            "required_personnel", "preferred_positions", "age_group", "skill_level", "field_location",
+            "match_type", "team_size", "field_type", "cost", "parking_available", "shower_facilities",
+            "activity_days", "activity_time", "min_players", "max_players", "match_rules");
+    private static final String APPLICATION_SQL = insertSql("recruit_applications",
+            "post_id", "applicant_profile_id", "applicant_team_id", "match_team_id", "post_writer_profile_id",
+            "description", "status", "application_date");
+
+    private final JdbcTemplate jdbcTemplate;
+    // 날짜/시각은 Hibernate(hibernate.jdbc.time_zone)와 같은 방식으로 넣어야 JPA로 읽을 때 어긋나지 않는다
+    private final TimeZone jdbcTimeZone;
+
+    public BulkInserts(JdbcTemplate jdbcTemplate,
+                       @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcTimeZone = jdbcTimeZone.isBlank() ? null : TimeZone.getTimeZone(jdbcTimeZone);
+    }
+
+    public List<Match> insertMatches(List<Match> matches) {
+        insert(MATCH_SQL, matches, m -> new Object[]{
+                m.getMatchDate(), m.getMatchTime(), m.getVenue(), m.getVenueId(), m.getVenueUrl(),
+                m.getHomeTeamId(), m.getAwayTeamId(), m.getHomeScore(), m.getAwayScore(), m.getStatus(),
+                m.getRecruitPostId(), m.getReferee(), m.getWeather(), m.getTemperature()
+        }, Match::setId);
+        return matches;
+    }
+
+    public List<RecruitPost> insertPosts(List<RecruitPost> posts) {
+        insert(POST_SQL, posts, p -> new Object[]{
+                p.getTeamId(), p.getWriterProfileId(), p.getTitle(), p.getContent(), p.getRegion(), p.getSubRegion(),
+                p.getImageUrl(), p.getMatchDate(), p.getGameTime(), p.getCategory(), p.getTargetType(), p.getStatus(),
+                p.getMatchId(), p.getRequiredPersonnel(), p.getPreferredPositions(), p.getAgeGroup(),
+                p.getSkillLevel(), p.getFieldLocation(), p.getMatchType(), p.getTeamSize(), p.getFieldType(),
+                p.getCost(), p.getParkingAvailable(), p.getShowerFacilities(), p.getActivityDays(),
+                p.getActivityTime(), p.getMinPlayers(), p.getMaxPlayers(), p.getMatchRules()
+        }, RecruitPost::setId);
+        return posts;
+    }
+
+    public List<RecruitApplication> insertApplications(List<RecruitApplication> applications) {
+        // @PrePersist가 돌지 않으므로 신청일은 여기서
+        LocalDateTime now = LocalDateTime.now();
+        applications.forEach(a -> {
+            if (a.getApplicationDate() == null) a.setApplicationDate(now);
+        });
+        insert(APPLICATION_SQL, applications, a -> new Object[]{
+                a.getPostId(), a.getApplicantProfileId(), a.getApplicantTeamId(), a.getMatchTeamId(),
+                a.getPostWriterProfileId(), a.getDescription(), a.getStatus(), a.getApplicationDate()
+        }, RecruitApplication::setId);
+        return applications;
+    }
+
+    private <T> void insert(String sql, List<T> rows, Function<T, Object[]> values, BiConsumer<T, Long> setId) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(sql, new String[]{"id"}), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Object[] row = values.apply(rows.get(i));
+                for (int c = 0; c < row.length; c++) {
+                    bind(ps, c + 1, row[c]);
+                }
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        }, keys);
+
+        // 생성 키는 입력 순서대로 온다 (multi-row INSERT는 연속된 AUTO_INCREMENT 값을 받는다)
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        if (keyList.size() != rows.size()) {
+            throw new IllegalStateException("expected " + rows.size() + " generated keys but got " + keyList.size());
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            setId.accept(rows.get(i), ((Number) keyList.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    private void bind(PreparedStatement ps, int index, Object value) throws SQLException {
+        if (jdbcTimeZone == null) {
+            ps.setObject(index, value);
+            return;
+        }
+        switch (value) {
+            case LocalDateTime t -> ps.setTimestamp(index, Timestamp.valueOf(t), Calendar.getInstance(jdbcTimeZone));
+            case LocalDate d -> ps.setDate(index, Date.valueOf(d), Calendar.getInstance(jdbcTimeZone));
+            case LocalTime t -> ps.setTime(index, Time.valueOf(t), Calendar.getInstance(jdbcTimeZone));
+            case null, default -> ps.setObject(index, value);
+        }
+    }
+
+    private static String insertSql(String table, String... columns) {
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+    }
+}
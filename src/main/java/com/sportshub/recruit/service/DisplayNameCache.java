@@ -0,0 +1,133 @@
+package com.sportshub.recruit.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// 프로필/팀 표시 이름 캐시. 존재하지 않는 id는 빈 값으로 짧게 캐시한다 (negative caching)
+@Slf4j
+@Component
+public class DisplayNameCache {
+    private static final String PROFILE_SQL = "SELECT id, name FROM profiles WHERE id IN (:ids)";
+    private static final String TEAM_SQL = "SELECT id, team_name FROM teams WHERE id IN (:ids)";
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Cache<Long, Optional<String>> profileNames;
+    private final Cache<Long, Optional<String>> teamNames;
+
+    public DisplayNameCache(NamedParameterJdbcTemplate jdbcTemplate,
+                            @Value("${recruit.name-cache.max-size:10000}") long maxSize,
+                            @Value("${recruit.name-cache.ttl:10m}") Duration ttl,
+                            @Value("${recruit.name-cache.negative-ttl:1m}") Duration negativeTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.profileNames = newCache(maxSize, ttl, negativeTtl);
+        this.teamNames = newCache(maxSize, ttl, negativeTtl);
+    }
+
+    public Map<Long, String> getProfileNames(Collection<Long> profileIds) {
+        return lookup(profileNames, PROFILE_SQL, profileIds);
+    }
+
+    public Map<Long, String> getTeamNames(Collection<Long> teamIds) {
+        return lookup(teamNames, TEAM_SQL, teamIds);
+    }
+
+    public void invalidateProfile(Long profileId) {
+        profileNames.invalidate(profileId);
+    }
+
+    public void invalidateTeam(Long teamId) {
+        teamNames.invalidate(teamId);
+    }
+
+    public void invalidateAll() {
+        profileNames.invalidateAll();
+        teamNames.invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("profiles", toMap(profileNames));
+        stats.put("teams", toMap(teamNames));
+        return stats;
+    }
+
+    private Map<Long, String> lookup(Cache<Long, Optional<String>> cache, String sql, Collection<Long> ids) {
+        Map<Long, String> names = new HashMap<>();
+        if (ids.isEmpty()) return names;
+        try {
+            cache.getAll(ids, missing -> load(sql, missing))
+                    .forEach((id, name) -> name.ifPresent(n -> names.put(id, n)));
+        } catch (DataAccessException e) {
+            // 조회 실패는 캐시하지 않는다
+            log.debug("Failed to look up names: {}", e.getMessage());
+        }
+        return names;
+    }
+
+    private Map<Long, Optional<String>> load(String sql, Set<? extends Long> ids) {
+        Map<Long, Optional<String>> loaded = new HashMap<>();
+        List<Long> all = new ArrayList<>(ids);
+        for (int i = 0; i < all.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = all.subList(i, Math.min(i + IN_CLAUSE_CHUNK_SIZE, all.size()));
+            jdbcTemplate.query(sql, Map.of("ids", chunk),
+                    (RowCallbackHandler) rs -> loaded.put(rs.getLong(1), Optional.ofNullable(rs.getString(2))));
+        }
+        for (Long id : all) {
+            loaded.putIfAbsent(id, Optional.empty());
+        }
+        return loaded;
+    }
+
+    private static Cache<Long, Optional<String>> newCache(long maxSize, Duration ttl, Duration negativeTtl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<Long, Optional<String>>() {
+                    @Override
+                    public long expireAfterCreate(Long id, Optional<String> name, long currentTime) {
+                        return (name.isPresent() ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long id, Optional<String> name, long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, name, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long id, Optional<String> name, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    private static Map<String, Object> toMap(Cache<Long, Optional<String>> cache) {
+        CacheStats s = cache.stats();
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("size", cache.estimatedSize());
+        map.put("hitCount", s.hitCount());
+        map.put("missCount", s.missCount());
+        map.put("evictionCount", s.evictionCount());
+        map.put("hitRate", s.hitRate());
+        return map;
+    }
+}
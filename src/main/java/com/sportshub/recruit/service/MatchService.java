@@ -1,18 +1,32 @@
 package com.sportshub.recruit.service;
 
+import com.sportshub.recruit.client.TeamServiceClient;
 import com.sportshub.recruit.domain.Match;
 import com.sportshub.recruit.repository.MatchRepository;
+import com.sportshub.recruit.repository.MatchRepository.MatchVersion;
+import com.sportshub.recruit.web.dto.RecruitDtos.CursorPage;
+import com.sportshub.recruit.web.dto.RecruitDtos.MatchCursor;
+import com.sportshub.recruit.web.dto.RecruitDtos.MatchSearchCondition;
+import jakarta.persistence.criteria.Path;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.time.LocalTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import static com.sportshub.recruit.repository.QuerySpecifications.between;
+import static com.sportshub.recruit.repository.QuerySpecifications.equalTo;
 
 @Slf4j
 @Service
@@ -20,13 +34,22 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class MatchService {
     private final MatchRepository matchRepository;
-    private final RestTemplate restTemplate;
+    private final TeamServiceClient teamServiceClient;
+    private final NotificationOutboxService notificationOutboxService;
+    private final ProjectionQueries projectionQueries;
+    private final BulkInserts bulkInserts;
+
+    @Value("${recruit.matches.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${recruit.matches.max-page-size:100}")
+    private int maxPageSize;
 
-    @Value("${notification.service.url:http://sportshub-notification:8085}")
-    private String notificationServiceUrl;
+    @Value("${recruit.bulk.max-size:500}")
+    private int bulkMaxSize;
 
-    @Value("${team.service.url:http://sportshub-team:8083}")
-    private String teamServiceUrl;
+    public static final List<String> SUMMARY_FIELDS = List.of("matchDate", "matchTime", "venue",
+            "homeTeamId", "awayTeamId", "homeScore", "awayScore", "status");
 
     public List<Match> findAll() {
         return matchRepository.findAll();
@@ -37,6 +60,40 @@ public class MatchService {
                 .orElseThrow(() -> new RuntimeException("Match not found with id: " + id));
     }
 
+    // 팀의 홈/원정 경기 일정 (날짜, 시간 오름차순 키셋 페이지)
+    public CursorPage<Match> findTeamSchedule(Long teamId, String status, LocalDate from, LocalDate to,
+                                              String cursor, Integer limit) {
+        MatchCursor after = MatchCursor.decode(cursor);
+        int pageSize = resolvePageSize(limit);
+        List<Match> matches = matchRepository.findTeamSchedule(teamId, blankToNull(status), from, to,
+                after == null ? null : after.matchDate(),
+                after == null ? null : after.matchTime(),
+                after == null ? null : after.id(),
+                pageSize + 1);
+        return toPage(matches, pageSize);
+    }
+
+    private CursorPage<Match> toPage(List<Match> matches, int pageSize) {
+        boolean hasNext = matches.size() > pageSize;
+        if (hasNext) matches = matches.subList(0, pageSize);
+        String nextCursor = hasNext ? MatchCursor.of(matches.get(matches.size() - 1)).encode() : null;
+        return new CursorPage<>(matches, hasNext, nextCursor);
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) return defaultPageSize;
+        return Math.max(1, Math.min(limit, maxPageSize));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    public MatchVersion getVersion(Long id) {
+        return matchRepository.findVersion(id)
+                .orElseThrow(() -> new RuntimeException("Match not found with id: " + id));
+    }
+
     public List<Match> findByStatus(String status) {
         return matchRepository.findByStatus(status);
     }
@@ -49,11 +106,93 @@ public class MatchService {
         return matchRepository.findByMatchDateBetween(startDate, endDate);
     }
 
+    // 조건 조합 검색. (match_date, match_time, id) 순 키셋 페이지, desc=true면 최신 경기부터
+    public CursorPage<Match> search(MatchSearchCondition condition, boolean desc, String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        List<Match> matches = matchRepository.findBy(searchSpec(condition, desc, MatchCursor.decode(cursor)),
+                q -> q.sortBy(scheduleSort(desc)).limit(pageSize + 1).all());
+        return toPage(matches, pageSize);
+    }
+
+    // search와 같은 조건으로 요청한 필드만 조회. 커서용 키(id, matchDate, matchTime)는 항상 포함
+    public CursorPage<Map<String, Object>> searchFields(MatchSearchCondition condition, boolean desc, String cursor,
+                                                        Integer limit, List<String> fields) {
+        projectionQueries.validate(Match.class, fields, Set.of());
+        LinkedHashSet<String> columns = new LinkedHashSet<>(List.of("id", "matchDate", "matchTime"));
+        columns.addAll(fields);
+
+        int pageSize = resolvePageSize(limit);
+        List<Map<String, Object>> rows = projectionQueries.select(Match.class, columns,
+                searchSpec(condition, desc, MatchCursor.decode(cursor)), scheduleSort(desc), pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) rows = rows.subList(0, pageSize);
+        String nextCursor = null;
+        if (hasNext) {
+            Map<String, Object> last = rows.get(rows.size() - 1);
+            nextCursor = new MatchCursor((LocalDate) last.get("matchDate"), (LocalTime) last.get("matchTime"),
+                    (Long) last.get("id")).encode();
+        }
+        return new CursorPage<>(rows, hasNext, nextCursor);
+    }
+
+    private Specification<Match> searchSpec(MatchSearchCondition c, boolean desc, MatchCursor after) {
+        return Specification.allOf(
+                equalTo("status", c.getStatus()),
+                equalTo("matchDate", c.getMatchDate()),
+                between("matchDate", c.getStartDate(), c.getEndDate()),
+                equalTo("venueId", c.getVenueId()),
+                playedBy(c.getTeamId()),
+                after(after, desc));
+    }
+
+    private static Specification<Match> playedBy(Long teamId) {
+        if (teamId == null) return null;
+        return (root, query, cb) -> cb.or(cb.equal(root.get("homeTeamId"), teamId), cb.equal(root.get("awayTeamId"), teamId));
+    }
+
+    // 커서 이후: (date, time, id) 사전순 비교
+    private static Specification<Match> after(MatchCursor after, boolean desc) {
+        if (after == null) return null;
+        return (root, query, cb) -> {
+            Path<LocalDate> date = root.get("matchDate");
+            Path<LocalTime> time = root.get("matchTime");
+            Path<Long> id = root.get("id");
+            if (desc) {
+                return cb.or(cb.lessThan(date, after.matchDate()),
+                        cb.and(cb.equal(date, after.matchDate()),
+                                cb.or(cb.lessThan(time, after.matchTime()),
+                                        cb.and(cb.equal(time, after.matchTime()), cb.lessThan(id, after.id())))));
+            }
+            return cb.or(cb.greaterThan(date, after.matchDate()),
+                    cb.and(cb.equal(date, after.matchDate()),
+                            cb.or(cb.greaterThan(time, after.matchTime()),
+                                    cb.and(cb.equal(time, after.matchTime()), cb.greaterThan(id, after.id())))));
+        };
+    }
+
+    private static Sort scheduleSort(boolean desc) {
+        Sort sort = Sort.by("matchDate", "matchTime", "id");
+        return desc ? sort.descending() : sort;
+    }
+
     @Transactional
     public Match create(Match match) {
         return matchRepository.save(match);
     }
 
+    // 한 트랜잭션에서 JDBC 배치 하나로 INSERT (요청 본문의 id는 무시하고 새로 만든다)
+    @Transactional
+    public List<Match> createAll(List<Match> matches) {
+        checkBulkSize(matches.size());
+        return bulkInserts.insertMatches(matches);
+    }
+
+    private void checkBulkSize(int size) {
+        if (size == 0 || size > bulkMaxSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "bulk size must be between 1 and " + bulkMaxSize);
+        }
+    }
+
     @Transactional
     public Match update(Long id, Match updates) {
         Match existing = findById(id);
@@ -83,7 +222,7 @@ public class MatchService {
             // 양팀 캡틴에게 알림 전송 (TODO: 팀 전체 멤버에게 전송하도록 개선)
             notifyTeamCaptain(saved.getHomeTeamId(), message, saved.getId());
             notifyTeamCaptain(saved.getAwayTeamId(), message, saved.getId());
-            log.info("Match cancellation notifications sent for match {}", id);
+            log.info("Match cancellation notifications queued for match {}", id);
         }
 
         return saved;
@@ -97,51 +236,12 @@ public class MatchService {
     // 팀 캡틴에게 알림 전송
     private void notifyTeamCaptain(Long teamId, String message, Long matchId) {
         try {
-            String url = teamServiceUrl + "/api/teams/" + teamId + "/members";
-            List<Map<String, Object>> members = restTemplate.getForObject(url, List.class);
-
-            if (members != null) {
-                for (Map<String, Object> member : members) {
-                    Map<String, Object> id = (Map<String, Object>) member.get("id");
-                    String role = (String) member.get("roleInTeam");
-                    Boolean isActive = (Boolean) member.get("isActive");
-
-                    if ("CAPTAIN".equals(role) && Boolean.TRUE.equals(isActive) && id != null) {
-                        Object profileIdObj = id.get("profileId");
-                        if (profileIdObj != null) {
-                            Long profileId = ((Number) profileIdObj).longValue();
-                            sendNotification(profileId, "MATCH_CANCELLED", message, "MATCH", matchId);
-                            log.info("Match cancellation notification sent to captain (profileId: {}) of team {}", profileId, teamId);
-                        }
-                        break; // 캡틴 한 명에게만 전송
-                    }
-                }
-            }
+            teamServiceClient.getRoster(teamId).captainProfileId().ifPresent(profileId -> {
+                notificationOutboxService.enqueue(profileId, "MATCH_CANCELLED", message, "MATCH", matchId);
+                log.info("Match cancellation notification queued for captain (profileId: {}) of team {}", profileId, teamId);
+            });
         } catch (Exception e) {
             log.error("Failed to notify team captain for team {}: {}", teamId, e.getMessage());
         }
     }
-
-    // 알림 생성 헬퍼 메서드
-    private void sendNotification(Long receiverProfileId, String type, String message, String relatedType, Long relatedId) {
-        try {
-            String url = notificationServiceUrl + "/api/notifications";
-            Map<String, Object> request = new HashMap<>();
-            request.put("receiverProfileId", receiverProfileId);
-            request.put("receiverId", receiverProfileId);
-            request.put("type", type);
-            request.put("message", message);
-            if (relatedType != null) {
-                request.put("relatedType", relatedType);
-            }
-            if (relatedId != null) {
-                request.put("relatedId", relatedId);
-            }
-
-            restTemplate.postForEntity(url, request, Map.class);
-            log.info("Notification sent to profile {}: {}", receiverProfileId, type);
-        } catch (Exception e) {
-            log.error("Failed to send notification to profile {}: {}", receiverProfileId, e.getMessage());
-        }
-    }
 }
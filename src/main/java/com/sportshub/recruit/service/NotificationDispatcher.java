@@ -0,0 +1,77 @@
+package com.sportshub.recruit.service;
+
+import com.sportshub.recruit.domain.NotificationOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// notification_outbox를 주기적으로 비우며 알림 서비스로 전송한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final NotificationOutboxService outboxService;
+    @Qualifier("notificationRestTemplate")
+    private final RestTemplate restTemplate;
+
+    @Value("${notification.service.url:http://sportshub-notification:8085}")
+    private String notificationServiceUrl;
+
+    @Value("${notification.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notification.outbox.retention:7d}")
+    private Duration retention;
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        List<NotificationOutbox> batch;
+        do {
+            batch = outboxService.claimBatch(batchSize);
+            batch.forEach(this::send);
+        } while (batch.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        int deleted;
+        do {
+            deleted = outboxService.purgeSent(retention, PURGE_BATCH_SIZE);
+        } while (deleted == PURGE_BATCH_SIZE);
+    }
+
+    private void send(NotificationOutbox n) {
+        try {
+            String url = notificationServiceUrl + "/api/notifications";
+            Map<String, Object> request = new HashMap<>();
+            request.put("receiverProfileId", n.getReceiverProfileId());
+            request.put("receiverId", n.getReceiverProfileId()); // receiverId도 같이 보냄
+            request.put("type", n.getType());
+            request.put("message", n.getMessage());
+            if (n.getRelatedType() != null) {
+                request.put("relatedType", n.getRelatedType());
+            }
+            if (n.getRelatedId() != null) {
+                request.put("relatedId", n.getRelatedId());
+            }
+
+            restTemplate.postForEntity(url, request, Map.class);
+            outboxService.markSent(n.getId());
+            log.info("Notification sent to profile {}: {}", n.getReceiverProfileId(), n.getType());
+        } catch (Exception e) {
+            log.warn("Failed to send notification {} to profile {}: {}", n.getId(), n.getReceiverProfileId(), e.getMessage());
+            outboxService.markFailed(n.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.sportshub.recruit.service;
+
+import com.sportshub.recruit.domain.NotificationOutbox;
+import com.sportshub.recruit.repository.NotificationOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+    private final NotificationOutboxRepository outboxRepository;
+
+    @Value("${notification.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.lease:2m}")
+    private Duration lease;
+
+    @Value("${notification.outbox.backoff-base:5s}")
+    private Duration backoffBase;
+
+    @Value("${notification.outbox.max-backoff:30m}")
+    private Duration maxBackoff;
+
+    private OutboxQueue<NotificationOutbox> queue;
+
+    @PostConstruct
+    void initQueue() {
+        queue = new OutboxQueue<>(outboxRepository, maxAttempts, lease, backoffBase, maxBackoff);
+    }
+
+    // 호출한 쪽의 트랜잭션에 함께 저장된다
+    @Transactional
+    public void enqueue(Long receiverProfileId, String type, String message, String relatedType, Long relatedId) {
+        NotificationOutbox n = new NotificationOutbox();
+        n.setReceiverProfileId(receiverProfileId);
+        n.setType(type);
+        n.setMessage(message);
+        n.setRelatedType(relatedType);
+        n.setRelatedId(relatedId);
+        outboxRepository.save(n);
+    }
+
+    @Transactional
+    public List<NotificationOutbox> claimBatch(int batchSize) {
+        return queue.claim(batchSize);
+    }
+
+    @Transactional
+    public void markSent(Long id) {
+        outboxRepository.findById(id).ifPresent(n -> {
+            n.setStatus("SENT");
+            n.setAttempts(n.getAttempts() + 1);
+            n.setSentAt(LocalDateTime.now());
+            n.setLastError(null);
+        });
+    }
+
+    @Transactional
+    public void markFailed(Long id, String error) {
+        queue.fail(id, error).ifPresent(n ->
+                log.error("Notification {} moved to DEAD after {} attempts: {}", id, n.getAttempts(), error));
+    }
+
+    public int purgeSent(Duration retention, int limit) {
+        return outboxRepository.deleteSentBefore(LocalDateTime.now().minus(retention), limit);
+    }
+}
@@ -0,0 +1,58 @@
+package com.sportshub.recruit.service;
+
+import com.sportshub.recruit.domain.OutboxEntry;
+import com.sportshub.recruit.repository.OutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// 아웃박스 선점(lease)과 실패 시 지수 백오프/DEAD 전환. 트랜잭션은 호출하는 서비스가 연다
+public class OutboxQueue<T extends OutboxEntry> {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxRepository<T> repository;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration backoffBase;
+    private final Duration maxBackoff;
+
+    public OutboxQueue(OutboxRepository<T> repository, int maxAttempts, Duration lease,
+                       Duration backoffBase, Duration maxBackoff) {
+        this.repository = repository;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.backoffBase = backoffBase;
+        this.maxBackoff = maxBackoff;
+    }
+
+    // 선점한 행은 lease 동안 다른 디스패처가 가져가지 않는다
+    public List<T> claim(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<T> batch = repository.findDispatchable(now, batchSize);
+        batch.forEach(e -> e.setNextAttemptAt(now.plus(lease)));
+        return batch;
+    }
+
+    // 시도 횟수를 올리고 다음 시도 시각을 미룬다. maxAttempts에 닿아 DEAD가 된 행이면 돌려준다
+    public Optional<T> fail(Long id, String error) {
+        return repository.findById(id).filter(e -> {
+            int attempts = e.getAttempts() + 1;
+            e.setAttempts(attempts);
+            e.setLastError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            if (attempts >= maxAttempts) {
+                e.setStatus("DEAD");
+                return true;
+            }
+            e.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+            return false;
+        });
+    }
+
+    // 5s, 10s, 20s ... 최대 maxBackoff
+    Duration backoff(int attempts) {
+        Duration delay = backoffBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -0,0 +1,100 @@
+package com.sportshub.recruit.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// fields= / view=summary 목록 조회용. 요청한 컬럼만 SELECT 하고 엔티티를 만들지 않는다
+@Component
+@RequiredArgsConstructor
+public class ProjectionQueries {
+    public static final String SUMMARY_VIEW = "summary";
+
+    private final EntityManager entityManager;
+
+    // fields와 view 파라미터를 필드 목록으로 합친다. 둘 다 없으면 null (전체 엔티티 응답)
+    public static List<String> resolveFields(String fields, String view, List<String> summaryFields) {
+        boolean summary = view != null && !view.isBlank();
+        if (summary && !SUMMARY_VIEW.equalsIgnoreCase(view.trim())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown view: " + view);
+        }
+        if (!summary && (fields == null || fields.isBlank())) return null;
+
+        LinkedHashSet<String> result = new LinkedHashSet<>();
+        if (summary) result.addAll(summaryFields);
+        if (fields != null) {
+            Arrays.stream(fields.split(","))
+                    .map(String::trim)
+                    .filter(f -> !f.isEmpty())
+                    .forEach(result::add);
+        }
+        return new ArrayList<>(result);
+    }
+
+    // 응답 행을 식별할 수 있도록 id를 맨 앞에 둔다
+    public static List<String> withId(List<String> fields) {
+        LinkedHashSet<String> result = new LinkedHashSet<>();
+        result.add("id");
+        result.addAll(fields);
+        return new ArrayList<>(result);
+    }
+
+    // 엔티티 메타모델에 있는 단일 속성인지 검사. extraFields는 서비스에서 따로 채우는 필드
+    public void validate(Class<?> entityType, Collection<String> fields, Set<String> extraFields) {
+        Set<String> attributes = attributeNames(entityType);
+        List<String> unknown = fields.stream()
+                .filter(f -> !attributes.contains(f) && !extraFields.contains(f))
+                .toList();
+        if (!unknown.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown fields: " + String.join(",", unknown));
+        }
+    }
+
+    public <T> List<Map<String, Object>> select(Class<T> entityType, Collection<String> fields,
+                                                Specification<T> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityType);
+        query.multiselect(fields.stream().<Selection<?>>map(f -> root.get(f).alias(f)).toList());
+        if (spec != null) {
+            var predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) query.where(predicate);
+        }
+        if (sort.isSorted()) query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        var typed = entityManager.createQuery(query);
+        if (limit > 0) typed.setMaxResults(limit);
+        return typed.getResultList().stream()
+                .map(ProjectionQueries::toMap)
+                .collect(Collectors.toList());
+    }
+
+    private Set<String> attributeNames(Class<?> entityType) {
+        return entityManager.getMetamodel().entity(entityType).getSingularAttributes().stream()
+                .map(Attribute::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            row.put(element.getAlias(), tuple.get(element));
+        }
+        return row;
+    }
+}
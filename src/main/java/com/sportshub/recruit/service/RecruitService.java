@@ -3,23 +3,58 @@ package com.sportshub.recruit.service;
 import com.sportshub.recruit.domain.RecruitPost;
 import com.sportshub.recruit.repository.RecruitApplicationRepository;
 import com.sportshub.recruit.repository.RecruitPostRepository;
+import com.sportshub.recruit.repository.RecruitPostRepository.PostVersion;
+import com.sportshub.recruit.web.dto.RecruitDtos.CursorPage;
+import com.sportshub.recruit.web.dto.RecruitDtos.PostCursor;
 import com.sportshub.recruit.web.dto.RecruitDtos.PostResponse;
+import com.sportshub.recruit.web.dto.RecruitDtos.PostSearchCondition;
+import com.sportshub.recruit.web.dto.RecruitMapper;
+import jakarta.persistence.criteria.Path;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.sportshub.recruit.repository.QuerySpecifications.between;
+import static com.sportshub.recruit.repository.QuerySpecifications.equalTo;
+
 @Service
 @RequiredArgsConstructor
 public class RecruitService {
     private final RecruitPostRepository recruitPostRepository;
-    private final RecruitApplicationRepository recruitApplicationRepository;
-    private final JdbcTemplate jdbcTemplate;
+    private final RecruitApplicationRepository applicationRepository;
+    private final DisplayNameCache displayNameCache;
+    private final ProjectionQueries projectionQueries;
+    private final BulkInserts bulkInserts;
+
+    // 모바일 목록용 요약 필드 (content, matchRules 같은 TEXT 컬럼 제외)
+    public static final List<String> SUMMARY_FIELDS = List.of("title", "category", "status", "region", "subRegion",
+            "matchDate", "gameTime", "requiredPersonnel", "acceptedCount", "teamName");
+    private static final Set<String> NAME_FIELDS = Set.of("authorName", "teamName");
+    private static final Sort SEARCH_SORT = Sort.by("matchDate", "id");
+
+    @Value("${recruit.posts.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${recruit.posts.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${recruit.bulk.max-size:500}")
+    private int bulkMaxSize;
 
     @Transactional
     public RecruitPost create(RecruitPost p) {
@@ -27,6 +62,23 @@ public class RecruitService {
         return recruitPostRepository.save(p);
     }
 
+    @Transactional
+    public List<RecruitPost> createAll(List<RecruitPost> posts) {
+        if (posts.isEmpty() || posts.size() > bulkMaxSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "bulk size must be between 1 and " + bulkMaxSize);
+        }
+        posts.forEach(p -> {
+            if (p.getStatus() == null || p.getStatus().isBlank()) p.setStatus("OPEN");
+        });
+        return bulkInserts.insertPosts(posts);
+    }
+
+    @Transactional(readOnly = true)
+    public PostVersion getVersion(Long id) {
+        return recruitPostRepository.findVersion(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "post not found"));
+    }
+
     @Transactional(readOnly = true)
     public RecruitPost get(Long id) {
         return recruitPostRepository.findById(id)
@@ -35,78 +87,48 @@ public class RecruitService {
 
     @Transactional(readOnly = true)
     public PostResponse getWithStats(Long id) {
-        RecruitPost post = get(id);
-        Long acceptedCount = recruitApplicationRepository.countAcceptedByPostId(post.getId());
-        PostResponse response = new PostResponse(post, acceptedCount);
-        // 프로필 이름 조회
-        if (post.getWriterProfileId() != null) {
-            String authorName = getProfileName(post.getWriterProfileId());
-            response.setAuthorName(authorName);
-        }
-        // 팀 이름 조회
-        if (post.getTeamId() != null) {
-            String teamName = getTeamName(post.getTeamId());
-            response.setTeamName(teamName);
-        }
-        return response;
+        return enrich(List.of(get(id))).get(0);
     }
 
-    private String getProfileName(Long profileId) {
-        try {
-            return jdbcTemplate.queryForObject(
-                "SELECT name FROM profiles WHERE id = ?",
-                String.class,
-                profileId
-            );
-        } catch (Exception e) {
-            return null;
-        }
-    }
+    // 작성자 이름, 팀 이름을 게시글 수와 관계없이 묶음 조회로 채운다
+    private List<PostResponse> enrich(List<RecruitPost> posts) {
+        if (posts.isEmpty()) return new ArrayList<>();
 
-    private String getTeamName(Long teamId) {
-        try {
-            return jdbcTemplate.queryForObject(
-                "SELECT team_name FROM teams WHERE id = ?",
-                String.class,
-                teamId
-            );
-        } catch (Exception e) {
-            return null;
+        Set<Long> profileIds = new HashSet<>();
+        Set<Long> teamIds = new HashSet<>();
+        for (RecruitPost post : posts) {
+            if (post.getWriterProfileId() != null) profileIds.add(post.getWriterProfileId());
+            if (post.getTeamId() != null) teamIds.add(post.getTeamId());
         }
+
+        Map<Long, String> authorNames = displayNameCache.getProfileNames(profileIds);
+        Map<Long, String> teamNames = displayNameCache.getTeamNames(teamIds);
+
+        return posts.stream()
+                .map(post -> {
+                    PostResponse response = new PostResponse(post, post.getAcceptedCount().longValue());
+                    // 프로필 이름
+                    if (post.getWriterProfileId() != null) {
+                        response.setAuthorName(authorNames.get(post.getWriterProfileId()));
+                    }
+                    // 팀 이름
+                    if (post.getTeamId() != null) {
+                        response.setTeamName(teamNames.get(post.getTeamId()));
+                    }
+                    return response;
+                })
+                .collect(Collectors.toList());
     }
 
     @Transactional
     public RecruitPost update(Long id, RecruitPost patch) {
         RecruitPost p = get(id);
-        if (patch.getTitle() != null) p.setTitle(patch.getTitle());
-        if (patch.getContent() != null) p.setContent(patch.getContent());
-        if (patch.getRegion() != null) p.setRegion(patch.getRegion());
-        if (patch.getSubRegion() != null) p.setSubRegion(patch.getSubRegion());
-        if (patch.getImageUrl() != null) p.setImageUrl(patch.getImageUrl());
-        if (patch.getMatchDate() != null) p.setMatchDate(patch.getMatchDate());
-        if (patch.getGameTime() != null) p.setGameTime(patch.getGameTime());
-        if (patch.getCategory() != null) p.setCategory(patch.getCategory());
-        if (patch.getTargetType() != null) p.setTargetType(patch.getTargetType());
-        if (patch.getStatus() != null) p.setStatus(patch.getStatus());
-        if (patch.getTeamId() != null) p.setTeamId(patch.getTeamId());
-        if (patch.getWriterProfileId() != null) p.setWriterProfileId(patch.getWriterProfileId());
-        if (patch.getRequiredPersonnel() != null) p.setRequiredPersonnel(patch.getRequiredPersonnel());
-        if (patch.getPreferredPositions() != null) p.setPreferredPositions(patch.getPreferredPositions());
-        if (patch.getAgeGroup() != null) p.setAgeGroup(patch.getAgeGroup());
-        if (patch.getSkillLevel() != null) p.setSkillLevel(patch.getSkillLevel());
-        if (patch.getFieldLocation() != null) p.setFieldLocation(patch.getFieldLocation());
-        // 새로 추가된 필드들
-        if (patch.getMatchType() != null) p.setMatchType(patch.getMatchType());
-        if (patch.getTeamSize() != null) p.setTeamSize(patch.getTeamSize());
-        if (patch.getFieldType() != null) p.setFieldType(patch.getFieldType());
-        if (patch.getCost() != null) p.setCost(patch.getCost());
-        if (patch.getParkingAvailable() != null) p.setParkingAvailable(patch.getParkingAvailable());
-        if (patch.getShowerFacilities() != null) p.setShowerFacilities(patch.getShowerFacilities());
-        if (patch.getActivityDays() != null) p.setActivityDays(patch.getActivityDays());
-        if (patch.getActivityTime() != null) p.setActivityTime(patch.getActivityTime());
-        if (patch.getMinPlayers() != null) p.setMinPlayers(patch.getMinPlayers());
-        if (patch.getMaxPlayers() != null) p.setMaxPlayers(patch.getMaxPlayers());
-        if (patch.getMatchRules() != null) p.setMatchRules(patch.getMatchRules());
+        RecruitMapper.applyPatch(p, patch);
+        if (patch.getWriterProfileId() != null && !patch.getWriterProfileId().equals(p.getWriterProfileId())) {
+            p.setWriterProfileId(patch.getWriterProfileId());
+            // 받은 신청함이 새 작성자에게 보이도록 신청 행의 복제값도 갱신
+            applicationRepository.updatePostWriter(id, patch.getWriterProfileId());
+        }
         return recruitPostRepository.save(p);
     }
 
@@ -119,33 +141,107 @@ public class RecruitService {
     }
 
     @Transactional(readOnly = true)
-    public List<RecruitPost> list(Long teamId, Long writerProfileId, String status, String category) {
-        if (teamId != null) return recruitPostRepository.findByTeamId(teamId);
-        if (writerProfileId != null) return recruitPostRepository.findByWriterProfileId(writerProfileId);
-        if (status != null && !status.isBlank()) return recruitPostRepository.findByStatus(status);
-        if (category != null && !category.isBlank()) return recruitPostRepository.findByCategory(category);
-        return recruitPostRepository.findAll();
+    // (match_date, id) 순. 카테고리/상태(/지역) 조건이면 idx_recruit_posts_category_status[_region]_date 순서 그대로 읽는다
+    public List<RecruitPost> search(PostSearchCondition c, PostCursor after, int limit) {
+        return recruitPostRepository.findBy(searchSpec(c, after), q -> q.sortBy(SEARCH_SORT).limit(limit).all());
+    }
+
+    private Specification<RecruitPost> searchSpec(PostSearchCondition c, PostCursor after) {
+        return Specification.allOf(
+                equalTo("teamId", c.getTeamId()),
+                equalTo("writerProfileId", c.getWriterProfileId()),
+                equalTo("status", c.getStatus()),
+                equalTo("category", c.getCategory()),
+                equalTo("region", c.getRegion()),
+                equalTo("subRegion", c.getSubRegion()),
+                between("matchDate", c.getMatchDateFrom(), c.getMatchDateTo()),
+                equalTo("teamSize", c.getTeamSize()),
+                equalTo("skillLevel", c.getSkillLevel()),
+                equalTo("fieldType", c.getFieldType()),
+                between("cost", c.getMinCost(), c.getMaxCost()),
+                equalTo("parkingAvailable", c.getParkingAvailable()),
+                equalTo("showerFacilities", c.getShowerFacilities()),
+                after(after));
+    }
+
+    // 커서 이후: (match_date, id) 사전순 비교. MySQL은 오름차순에서 NULL 날짜를 맨 앞에 둔다
+    private static Specification<RecruitPost> after(PostCursor after) {
+        if (after == null) return null;
+        return (root, query, cb) -> {
+            Path<LocalDate> date = root.get("matchDate");
+            Path<Long> id = root.get("id");
+            if (after.matchDate() == null) {
+                return cb.or(cb.and(cb.isNull(date), cb.greaterThan(id, after.id())), cb.isNotNull(date));
+            }
+            return cb.or(cb.greaterThan(date, after.matchDate()),
+                    cb.and(cb.equal(date, after.matchDate()), cb.greaterThan(id, after.id())));
+        };
     }
 
     @Transactional(readOnly = true)
-    public List<PostResponse> listWithStats(Long teamId, Long writerProfileId, String status, String category) {
-        List<RecruitPost> posts = list(teamId, writerProfileId, status, category);
-        return posts.stream()
-                .map(post -> {
-                    Long acceptedCount = recruitApplicationRepository.countAcceptedByPostId(post.getId());
-                    PostResponse response = new PostResponse(post, acceptedCount);
-                    // 프로필 이름 조회
-                    if (post.getWriterProfileId() != null) {
-                        String authorName = getProfileName(post.getWriterProfileId());
-                        response.setAuthorName(authorName);
-                    }
-                    // 팀 이름 조회
-                    if (post.getTeamId() != null) {
-                        String teamName = getTeamName(post.getTeamId());
-                        response.setTeamName(teamName);
-                    }
-                    return response;
-                })
-                .collect(Collectors.toList());
+    public CursorPage<PostResponse> listWithStats(PostSearchCondition condition, String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<RecruitPost> posts = search(condition, PostCursor.decode(cursor), pageSize + 1);
+        boolean hasNext = posts.size() > pageSize;
+        if (hasNext) posts = posts.subList(0, pageSize);
+        RecruitPost last = hasNext ? posts.get(posts.size() - 1) : null;
+        String nextCursor = hasNext ? new PostCursor(last.getMatchDate(), last.getId()).encode() : null;
+        return new CursorPage<>(enrich(posts), hasNext, nextCursor);
+    }
+
+    // 요청한 필드만 조회하는 목록. authorName/teamName은 이름 캐시에서 채운다
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> listFields(PostSearchCondition condition, String cursor, Integer limit,
+                                                      List<String> fields) {
+        projectionQueries.validate(RecruitPost.class, fields, NAME_FIELDS);
+        boolean withAuthor = fields.contains("authorName");
+        boolean withTeam = fields.contains("teamName");
+
+        // 커서용 키(id, matchDate)는 항상 포함, 이름 필드는 조회 키가 필요하다
+        LinkedHashSet<String> columns = new LinkedHashSet<>(List.of("id", "matchDate"));
+        fields.stream().filter(f -> !NAME_FIELDS.contains(f)).forEach(columns::add);
+        if (withAuthor) columns.add("writerProfileId");
+        if (withTeam) columns.add("teamId");
+
+        int pageSize = resolvePageSize(limit);
+        List<Map<String, Object>> rows = projectionQueries.select(RecruitPost.class, columns,
+                searchSpec(condition, PostCursor.decode(cursor)), SEARCH_SORT, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) rows = rows.subList(0, pageSize);
+        String nextCursor = null;
+        if (hasNext) {
+            Map<String, Object> last = rows.get(rows.size() - 1);
+            nextCursor = new PostCursor((LocalDate) last.get("matchDate"), (Long) last.get("id")).encode();
+        }
+
+        Map<Long, String> authorNames = withAuthor ? displayNameCache.getProfileNames(idsOf(rows, "writerProfileId")) : Map.of();
+        Map<Long, String> teamNames = withTeam ? displayNameCache.getTeamNames(idsOf(rows, "teamId")) : Map.of();
+
+        List<Map<String, Object>> content = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", row.get("id"));
+            for (String f : fields) {
+                if ("authorName".equals(f)) item.put(f, authorNames.get((Long) row.get("writerProfileId")));
+                else if ("teamName".equals(f)) item.put(f, teamNames.get((Long) row.get("teamId")));
+                else item.put(f, row.get(f));
+            }
+            content.add(item);
+        }
+        return new CursorPage<>(content, hasNext, nextCursor);
+    }
+
+    private static Set<Long> idsOf(List<Map<String, Object>> rows, String key) {
+        Set<Long> ids = new HashSet<>();
+        for (Map<String, Object> row : rows) {
+            if (row.get(key) instanceof Long id) ids.add(id);
+        }
+        return ids;
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) return defaultPageSize;
+        return Math.max(1, Math.min(limit, maxPageSize));
     }
 }
@@ -1,19 +1,61 @@
 package com.sportshub.recruit.service;
 
 import com.sportshub.recruit.domain.Report;
+import com.sportshub.recruit.domain.ReportTargetStats;
 import com.sportshub.recruit.repository.ReportRepository;
+import com.sportshub.recruit.repository.ReportTargetStatsRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static com.sportshub.recruit.repository.QuerySpecifications.equalTo;
+import static com.sportshub.recruit.service.ProjectionQueries.withId;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ReportService {
     private final ReportRepository reportRepository;
+    private final ReportTargetStatsRepository statsRepository;
+    private final ProjectionQueries projectionQueries;
+
+    // 대상별 누적 신고 수가 이 값에 도달하면 심각도를 올린다
+    @Value("${recruit.reports.escalate-high-at:5}")
+    private int escalateHighAt;
+
+    @Value("${recruit.reports.escalate-critical-at:10}")
+    private int escalateCriticalAt;
+
+    @Value("${recruit.reports.top-targets-max-size:100}")
+    private int topTargetsMaxSize;
+
+    @Value("${recruit.reports.claim-lease:15m}")
+    private Duration claimLease;
+
+    @Value("${recruit.reports.claim-default-size:5}")
+    private int claimDefaultSize;
+
+    @Value("${recruit.reports.claim-max-size:50}")
+    private int claimMaxSize;
+
+    // description, resolution(TEXT) 제외
+    public static final List<String> SUMMARY_FIELDS = List.of("reportType", "targetType", "targetId",
+            "category", "severity", "status", "createdAt");
 
     public List<Report> findAll() {
         return reportRepository.findAll();
@@ -40,9 +82,69 @@ public class ReportService {
         return reportRepository.findBySeverity(severity);
     }
 
+    // 목록 조회와 같은 조건 우선순위(status > severity > reporterId > reportedId)로 요청한 필드만 조회
+    public List<Map<String, Object>> findFields(String status, String severity, Long reporterId, Long reportedId,
+                                                List<String> fields) {
+        projectionQueries.validate(Report.class, fields, Set.of());
+        Specification<Report> spec = null;
+        if (status != null) {
+            spec = equalTo("status", status);
+        } else if (severity != null) {
+            spec = equalTo("severity", severity);
+        } else if (reporterId != null) {
+            spec = equalTo("reporterId", reporterId);
+        } else if (reportedId != null) {
+            spec = equalTo("reportedId", reportedId);
+        }
+        return projectionQueries.select(Report.class, withId(fields), spec, Sort.by("id"), 0);
+    }
+
     @Transactional
     public Report create(Report report) {
-        return reportRepository.save(report);
+        if (reportRepository.existsByReporterIdAndTargetTypeAndTargetId(
+                report.getReporterId(), report.getTargetType(), report.getTargetId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Already reported this target");
+        }
+        Report saved;
+        try {
+            saved = reportRepository.saveAndFlush(report);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 중복 신고는 유니크 제약으로 걸러진다
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Already reported this target");
+        }
+
+        statsRepository.increment(saved.getTargetType(), saved.getTargetId(), LocalDateTime.now());
+        Integer count = statsRepository.findReportCount(saved.getTargetType(), saved.getTargetId());
+        String escalated = escalatedSeverity(count);
+        if (escalated != null) {
+            int priority = Report.priorityOf(escalated);
+            if (saved.getPriority() < priority) {
+                saved.setSeverity(escalated);
+            }
+            // 임계값을 막 넘긴 시점에만 기존 대기 신고를 함께 올린다
+            if (count == escalateHighAt || count == escalateCriticalAt) {
+                int raised = reportRepository.escalatePending(saved.getTargetType(), saved.getTargetId(), escalated, priority);
+                log.info("Escalated {} pending reports on {} {} to {} ({} reports)",
+                        raised, saved.getTargetType(), saved.getTargetId(), escalated, count);
+            }
+        }
+        return saved;
+    }
+
+    // 가장 많이 신고된 대상. report_target_stats 인덱스에서 상위 limit건만 읽는다
+    public List<ReportTargetStats> findTopTargets(String targetType, Integer limit) {
+        int size = limit == null || limit <= 0 ? 20 : Math.min(limit, topTargetsMaxSize);
+        if (targetType == null || targetType.isBlank()) {
+            return statsRepository.findAllByOrderByReportCountDesc(Limit.of(size));
+        }
+        return statsRepository.findByTargetTypeOrderByReportCountDesc(targetType, Limit.of(size));
+    }
+
+    private String escalatedSeverity(Integer count) {
+        if (count == null) return null;
+        if (count >= escalateCriticalAt) return "CRITICAL";
+        if (count >= escalateHighAt) return "HIGH";
+        return null;
     }
 
     @Transactional
@@ -51,18 +153,52 @@ public class ReportService {
 
         if (updates.getStatus() != null) existing.setStatus(updates.getStatus());
         if (updates.getSeverity() != null) existing.setSeverity(updates.getSeverity());
-        if (updates.getAssignedAdminId() != null) existing.setAssignedAdminId(updates.getAssignedAdminId());
+        if (updates.getAssignedAdminId() != null) {
+            // 직접 배정은 만료되지 않는다
+            existing.setAssignedAdminId(updates.getAssignedAdminId());
+            existing.setLeaseExpiresAt(null);
+        }
         if (updates.getResolution() != null) existing.setResolution(updates.getResolution());
         if (updates.getResolvedAt() != null) existing.setResolvedAt(updates.getResolvedAt());
 
         return reportRepository.save(existing);
     }
 
+    // 다음 검토 대상 신고를 최대 limit건 선점해 claimLease 동안 adminId에게 배정
+    @Transactional
+    public List<Report> claim(Long adminId, Integer limit) {
+        int size = limit == null || limit <= 0 ? claimDefaultSize : Math.min(limit, claimMaxSize);
+        LocalDateTime now = LocalDateTime.now();
+        List<Report> batch = reportRepository.findClaimable(now, size);
+        LocalDateTime until = now.plus(claimLease);
+        batch.forEach(r -> {
+            r.setAssignedAdminId(adminId);
+            r.setLeaseExpiresAt(until);
+        });
+        return batch;
+    }
+
+    @Transactional
+    public Report renewLease(Long id, Long adminId) {
+        if (reportRepository.renewLease(id, adminId, LocalDateTime.now().plus(claimLease)) == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Report " + id + " is not leased to admin " + adminId);
+        }
+        return findById(id);
+    }
+
+    @Transactional
+    public void releaseLease(Long id, Long adminId) {
+        if (reportRepository.releaseLease(id, adminId) == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Report " + id + " is not leased to admin " + adminId);
+        }
+    }
+
     @Transactional
     public Report resolve(Long id, String resolution) {
         Report report = findById(id);
         report.setStatus("RESOLVED");
         report.setResolution(resolution);
+        report.setLeaseExpiresAt(null);
         report.setResolvedAt(LocalDateTime.now());
         return reportRepository.save(report);
     }
@@ -72,12 +208,16 @@ public class ReportService {
         Report report = findById(id);
         report.setStatus("REJECTED");
         report.setResolution(reason);
+        report.setLeaseExpiresAt(null);
         report.setResolvedAt(LocalDateTime.now());
         return reportRepository.save(report);
     }
 
     @Transactional
     public void delete(Long id) {
-        reportRepository.deleteById(id);
+        reportRepository.findById(id).ifPresent(report -> {
+            reportRepository.delete(report);
+            statsRepository.decrement(report.getTargetType(), report.getTargetId());
+        });
     }
 }
@@ -0,0 +1,180 @@
+package com.sportshub.recruit.service;
+
+import com.sportshub.recruit.client.TeamServiceClient;
+import com.sportshub.recruit.domain.RecruitApplication;
+import com.sportshub.recruit.domain.TeamMemberProvisioning;
+import com.sportshub.recruit.repository.TeamMemberProvisioningRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 마감된 팀 모집글의 승인자를 팀에 추가한다. 커밋 이후 제한된 병렬도로 호출하므로 승인 요청은 기다리지 않는다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamProvisioningService {
+    private static final int RETRY_BATCH_SIZE = 200;
+
+    private final TeamMemberProvisioningRepository provisioningRepository;
+    private final TeamServiceClient teamServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${team.provisioning.parallelism:8}")
+    private int parallelism;
+
+    @Value("${team.provisioning.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${team.provisioning.bulk-enabled:false}")
+    private boolean bulkEnabled;
+
+    @Value("${team.provisioning.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${team.provisioning.stale-after:2m}")
+    private Duration staleAfter;
+
+    // 팀 멤버 추가 호출용. 동시 호출 수를 parallelism으로 제한한다.
+    // Executor 빈으로 등록하면 Boot의 applicationTaskExecutor(MVC 비동기/내보내기용) 자동 설정이 꺼지므로 여기서 직접 관리한다
+    private ThreadPoolTaskExecutor provisioningExecutor;
+
+    @PostConstruct
+    void startExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // 가상 스레드 모드에서도 큐/거절 동작은 그대로 두고 워커만 가상 스레드로 만든다
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name("provisioning-", 0).factory());
+        }
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("provisioning-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        provisioningExecutor = executor;
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        provisioningExecutor.shutdown();
+    }
+
+    public record ProvisioningRequested(Long teamId, List<TeamMemberProvisioning> tasks) {
+    }
+
+    @Transactional
+    public void enqueue(Long postId, Long teamId, List<RecruitApplication> acceptedApps) {
+        List<TeamMemberProvisioning> tasks = provisioningRepository.saveAll(acceptedApps.stream()
+                .map(app -> new TeamMemberProvisioning(postId, teamId, app.getApplicantProfileId()))
+                .toList());
+        eventPublisher.publishEvent(new ProvisioningRequested(teamId, tasks));
+        log.info("Queued {} members for team {} (post {})", tasks.size(), teamId, postId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TeamMemberProvisioning> listByPost(Long postId) {
+        return provisioningRepository.findByPostIdOrderById(postId);
+    }
+
+    // 실패한 작업을 다시 PENDING으로 돌리고 곧바로 재시도한다.
+    // retryStale과 같은 방식으로 행마다 선점하고, 선점에 성공한 작업만 보낸다
+    public List<TeamMemberProvisioning> retryFailed(Long postId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TeamMemberProvisioning> claimed = provisioningRepository.findByPostIdOrderById(postId).stream()
+                .filter(t -> "FAILED".equals(t.getStatus()))
+                .filter(t -> provisioningRepository.claimFailed(t.getId(), t.getUpdatedAt(), now) == 1)
+                .toList();
+        claimed.forEach(t -> {
+            t.setStatus("PENDING");
+            t.setAttempts(0);
+            t.setUpdatedAt(now);
+        });
+        if (!claimed.isEmpty()) {
+            dispatch(claimed.get(0).getTeamId(), claimed);
+        }
+        return claimed;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProvisioningRequested(ProvisioningRequested event) {
+        dispatch(event.teamId(), event.tasks());
+    }
+
+    @Scheduled(fixedDelayString = "${team.provisioning.retry-interval-ms:60000}")
+    public void retryStale() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime before = now.minus(staleAfter);
+        List<TeamMemberProvisioning> claimed = provisioningRepository
+                .findRetryable(maxAttempts, before, Limit.of(RETRY_BATCH_SIZE)).stream()
+                .filter(t -> provisioningRepository.claim(t.getId(), before, now) == 1)
+                .toList();
+        if (claimed.isEmpty()) return;
+
+        log.info("Retrying {} team member provisioning tasks", claimed.size());
+        claimed.stream()
+                .collect(Collectors.groupingBy(TeamMemberProvisioning::getTeamId))
+                .forEach(this::dispatch);
+    }
+
+    private void dispatch(Long teamId, List<TeamMemberProvisioning> tasks) {
+        try {
+            if (bulkEnabled) {
+                provisioningExecutor.execute(() -> provisionBulk(teamId, tasks));
+            } else {
+                tasks.forEach(task -> provisioningExecutor.execute(() -> provisionOne(task)));
+            }
+        } catch (TaskRejectedException e) {
+            // 남은 작업은 PENDING으로 남아 retryStale에서 다시 처리된다
+            log.warn("Provisioning queue full, team {} tasks left for retry: {}", teamId, e.getMessage());
+        }
+    }
+
+    private void provisionOne(TeamMemberProvisioning task) {
+        try {
+            teamServiceClient.addMember(task.getTeamId(), task.getProfileId());
+            provisioningRepository.markDone(List.of(task.getId()), LocalDateTime.now());
+        } catch (HttpClientErrorException.Conflict e) {
+            // 이미 팀 멤버인 경우
+            provisioningRepository.markDone(List.of(task.getId()), LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("Failed to add profile {} to team {}: {}", task.getProfileId(), task.getTeamId(), e.getMessage());
+            provisioningRepository.markFailed(List.of(task.getId()), truncate(e.getMessage()), LocalDateTime.now());
+        }
+    }
+
+    private void provisionBulk(Long teamId, List<TeamMemberProvisioning> tasks) {
+        List<Long> ids = tasks.stream().map(TeamMemberProvisioning::getId).toList();
+        try {
+            teamServiceClient.addMembers(teamId, tasks.stream().map(TeamMemberProvisioning::getProfileId).toList());
+            provisioningRepository.markDone(ids, LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("Failed to add {} members to team {}: {}", tasks.size(), teamId, e.getMessage());
+            provisioningRepository.markFailed(ids, truncate(e.getMessage()), LocalDateTime.now());
+        }
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
@@ -0,0 +1,42 @@
+package com.sportshub.recruit.service;
+
+import com.sportshub.recruit.client.TeamServiceClient;
+import com.sportshub.recruit.domain.TeamScheduleOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// team_schedule_outbox를 주기적으로 비우며 팀 서비스에 경기 일정을 등록한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamScheduleDispatcher {
+    private final TeamScheduleOutboxService outboxService;
+    private final TeamServiceClient teamServiceClient;
+
+    @Value("${team.schedule-outbox.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${team.schedule-outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        List<TeamScheduleOutbox> batch;
+        do {
+            batch = outboxService.claimBatch(batchSize);
+            batch.forEach(this::send);
+        } while (batch.size() == batchSize);
+    }
+
+    private void send(TeamScheduleOutbox s) {
+        try {
+            teamServiceClient.addMatchToSchedule(s.getTeamId(), s.getMatchId());
+            outboxService.markSent(s.getId());
+        } catch (Exception e) {
+            log.warn("Failed to add match {} to team {} schedule: {}", s.getMatchId(), s.getTeamId(), e.getMessage());
+            outboxService.markFailed(s.getId(), e.getMessage());
+        }
+    }
+}
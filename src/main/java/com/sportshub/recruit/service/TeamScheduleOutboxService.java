@@ -0,0 +1,62 @@
+package com.sportshub.recruit.service;
+
+import com.sportshub.recruit.domain.TeamScheduleOutbox;
+import com.sportshub.recruit.repository.TeamScheduleOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamScheduleOutboxService {
+    private final TeamScheduleOutboxRepository outboxRepository;
+
+    @Value("${team.schedule-outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${team.schedule-outbox.lease:2m}")
+    private Duration lease;
+
+    @Value("${team.schedule-outbox.backoff-base:5s}")
+    private Duration backoffBase;
+
+    @Value("${team.schedule-outbox.max-backoff:30m}")
+    private Duration maxBackoff;
+
+    private OutboxQueue<TeamScheduleOutbox> queue;
+
+    @PostConstruct
+    void initQueue() {
+        queue = new OutboxQueue<>(outboxRepository, maxAttempts, lease, backoffBase, maxBackoff);
+    }
+
+    // 호출한 쪽의 트랜잭션에 함께 저장된다
+    @Transactional
+    public void enqueue(Long teamId, Long matchId) {
+        outboxRepository.save(new TeamScheduleOutbox(teamId, matchId));
+    }
+
+    @Transactional
+    public List<TeamScheduleOutbox> claimBatch(int batchSize) {
+        return queue.claim(batchSize);
+    }
+
+    @Transactional
+    public void markSent(Long id) {
+        outboxRepository.deleteById(id);
+    }
+
+    @Transactional
+    public void markFailed(Long id, String error) {
+        queue.fail(id, error).ifPresent(s ->
+                log.error("Schedule of match {} for team {} moved to DEAD after {} attempts: {}",
+                        s.getMatchId(), s.getTeamId(), s.getAttempts(), error));
+    }
+}
@@ -0,0 +1,47 @@
+package com.sportshub.recruit.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// 조건부 GET 처리. 값싼 버전 조회로 만든 ETag가 If-None-Match와 같으면 본문을 만들지 않고 304를 돌려준다
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    // 버전 값이 하나라도 없으면(null) ETag를 쓰지 않는다
+    static String etag(String type, Object... versionParts) {
+        if (Arrays.stream(versionParts).anyMatch(Objects::isNull)) return null;
+        return Arrays.stream(versionParts)
+                .map(ConditionalGet::format)
+                .collect(Collectors.joining("-", "\"" + type + "-", "\""));
+    }
+
+    static <T> ResponseEntity<T> respond(WebRequest request, String etag, Supplier<T> body) {
+        if (etag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        // checkNotModified가 응답에 ETag 헤더를 설정한다.
+        // no-cache: 클라이언트가 저장은 하되 매번 재검증하도록 (기본 no-store를 대신함)
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body.get());
+    }
+
+    private static String format(Object part) {
+        if (part instanceof LocalDateTime t) {
+            return Long.toString(t.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + t.getNano() / 1_000, 36);
+        }
+        return String.valueOf(part);
+    }
+}
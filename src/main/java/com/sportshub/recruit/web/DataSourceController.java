@@ -0,0 +1,47 @@
+package com.sportshub.recruit.web;
+
+import com.sportshub.recruit.config.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 커넥션 풀(primary/replica)별 사용량과 읽기 라우팅 건수 조회
+@RestController
+@RequestMapping("/api/recruit/ops/datasources")
+@RequiredArgsConstructor
+public class DataSourceController {
+    private final List<HikariDataSource> pools;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+
+    @GetMapping
+    public Map<String, Object> list() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("pools", pools.stream().map(DataSourceController::snapshot).toList());
+        ReplicaRoutingDataSource routing = replicaRouting.getIfAvailable();
+        result.put("routedReads", routing == null ? null : routing.routedReads());
+        return result;
+    }
+
+    private static Map<String, Object> snapshot(HikariDataSource pool) {
+        Map<String, Object> s = new LinkedHashMap<>();
+        s.put("name", pool.getPoolName());
+        s.put("maximumPoolSize", pool.getMaximumPoolSize());
+        HikariPoolMXBean mx = pool.getHikariPoolMXBean();
+        // 첫 커넥션 요청 전에는 풀이 아직 만들어지지 않았다
+        if (mx != null) {
+            s.put("active", mx.getActiveConnections());
+            s.put("idle", mx.getIdleConnections());
+            s.put("total", mx.getTotalConnections());
+            s.put("awaiting", mx.getThreadsAwaitingConnection());
+        }
+        return s;
+    }
+}
@@ -0,0 +1,23 @@
+package com.sportshub.recruit.web;
+
+import com.sportshub.recruit.client.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+// 서킷 브레이커 상태와 호출 지연 시간 조회
+@RestController
+@RequestMapping("/api/recruit/ops/downstreams")
+@RequiredArgsConstructor
+public class DownstreamController {
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @GetMapping
+    public List<Map<String, Object>> list() {
+        return circuitBreakerRegistry.snapshots();
+    }
+}
@@ -1,11 +1,19 @@
 package com.sportshub.recruit.web;
 
 import com.sportshub.recruit.domain.Match;
+import com.sportshub.recruit.service.ExportService;
 import com.sportshub.recruit.service.MatchService;
+import com.sportshub.recruit.service.ProjectionQueries;
+import com.sportshub.recruit.web.dto.RecruitDtos.CursorPage;
+import com.sportshub.recruit.web.dto.RecruitDtos.MatchSearchCondition;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -15,29 +23,42 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MatchController {
     private final MatchService matchService;
+    private final ExportService exportService;
 
+    // status, matchDate, startDate~endDate, teamId, venueId 조합 검색. order=desc면 최신 경기부터
     @GetMapping
-    public List<Match> list(
-            @RequestParam(required = false) String status,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate matchDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    public CursorPage<?> list(
+            @ModelAttribute MatchSearchCondition condition,
+            @RequestParam(defaultValue = "asc") String order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String view
     ) {
-        if (status != null) {
-            return matchService.findByStatus(status);
-        }
-        if (matchDate != null) {
-            return matchService.findByMatchDate(matchDate);
-        }
-        if (startDate != null && endDate != null) {
-            return matchService.findByDateRange(startDate, endDate);
+        boolean desc = "desc".equalsIgnoreCase(order);
+        List<String> selected = ProjectionQueries.resolveFields(fields, view, MatchService.SUMMARY_FIELDS);
+        if (selected != null) {
+            return matchService.searchFields(condition, desc, cursor, limit, selected);
         }
-        return matchService.findAll();
+        return matchService.search(condition, desc, cursor, limit);
+    }
+
+    // NDJSON(한 줄에 한 건) 스트리밍 내보내기
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> exportService.exportMatches(status, from, to, out));
     }
 
     @GetMapping("/{id}")
-    public Match get(@PathVariable Long id) {
-        return matchService.findById(id);
+    public ResponseEntity<Match> get(@PathVariable Long id, WebRequest request) {
+        String etag = ConditionalGet.etag("match", id, matchService.getVersion(id).getUpdatedAt());
+        return ConditionalGet.respond(request, etag, () -> matchService.findById(id));
     }
 
     @PostMapping
@@ -46,6 +67,13 @@ public class MatchController {
         return matchService.create(match);
     }
 
+    // 시즌 일정 등 여러 경기를 한 번에 등록 (최대 recruit.bulk.max-size건)
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<Match> createAll(@RequestBody List<Match> matches) {
+        return matchService.createAll(matches);
+    }
+
     @PatchMapping("/{id}")
     public Match update(@PathVariable Long id, @RequestBody Match updates) {
         return matchService.update(id, updates);
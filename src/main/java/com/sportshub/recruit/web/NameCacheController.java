@@ -0,0 +1,39 @@
+package com.sportshub.recruit.web;
+
+import com.sportshub.recruit.service.DisplayNameCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+// 다른 서비스에서 팀/프로필 이름이 바뀌면 호출해 캐시를 비운다
+@RestController
+@RequestMapping("/api/recruit/cache/names")
+@RequiredArgsConstructor
+public class NameCacheController {
+    private final DisplayNameCache displayNameCache;
+
+    @GetMapping
+    public Map<String, Object> stats() {
+        return displayNameCache.stats();
+    }
+
+    @DeleteMapping("/profiles/{profileId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void invalidateProfile(@PathVariable Long profileId) {
+        displayNameCache.invalidateProfile(profileId);
+    }
+
+    @DeleteMapping("/teams/{teamId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void invalidateTeam(@PathVariable Long teamId) {
+        displayNameCache.invalidateTeam(teamId);
+    }
+
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void invalidateAll() {
+        displayNameCache.invalidateAll();
+    }
+}
@@ -1,15 +1,24 @@
 package com.sportshub.recruit.web;
 
 import com.sportshub.recruit.domain.RecruitApplication;
+import com.sportshub.recruit.repository.RecruitApplicationRepository.ApplicationsVersion;
 import com.sportshub.recruit.service.ApplicationService;
+import com.sportshub.recruit.service.ExportService;
 import com.sportshub.recruit.web.dto.RecruitDtos.ApplicationCreateRequest;
 import com.sportshub.recruit.web.dto.RecruitDtos.ApplicationUpdateStatusRequest;
+import com.sportshub.recruit.web.dto.RecruitDtos.CursorPage;
+import com.sportshub.recruit.web.dto.RecruitMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.BeanUtils;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -17,18 +26,42 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RecruitApplicationController {
     private final ApplicationService applicationService;
+    private final ExportService exportService;
 
     @PostMapping("/api/recruit/posts/{postId}/applications")
     @ResponseStatus(HttpStatus.CREATED)
     public RecruitApplication apply(@PathVariable Long postId, @Valid @RequestBody ApplicationCreateRequest req) {
-        RecruitApplication a = new RecruitApplication();
-        BeanUtils.copyProperties(req, a);
-        return applicationService.apply(postId, a);
+        return applicationService.apply(postId, RecruitMapper.toApplication(req));
+    }
+
+    @PostMapping("/api/recruit/posts/{postId}/applications/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<RecruitApplication> applyAll(@PathVariable Long postId,
+                                             @RequestBody List<@Valid ApplicationCreateRequest> requests) {
+        return applicationService.applyAll(postId, requests.stream().map(RecruitMapper::toApplication).toList());
+    }
+
+    // NDJSON(한 줄에 한 건) 스트리밍 내보내기. 기간은 신청일 기준
+    @GetMapping(value = "/api/recruit/applications/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) Long postId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> exportService.exportApplications(postId, status, from, to, out));
     }
 
     @GetMapping("/api/recruit/posts/{postId}/applications")
-    public List<RecruitApplication> list(@PathVariable Long postId) {
-        return applicationService.listByPost(postId);
+    public ResponseEntity<List<RecruitApplication>> list(@PathVariable Long postId, WebRequest request) {
+        ApplicationsVersion version = applicationService.getListVersion(postId);
+        // 신청이 없으면 updatedAt이 null이므로 건수만으로 버전을 만든다
+        String etag = version.getUpdatedAt() == null
+                ? ConditionalGet.etag("applications", postId, version.getCount())
+                : ConditionalGet.etag("applications", postId, version.getCount(), version.getUpdatedAt());
+        return ConditionalGet.respond(request, etag, () -> applicationService.listByPost(postId));
     }
 
     @PatchMapping("/api/recruit/posts/{postId}/applications/{applicationId}")
@@ -47,8 +80,14 @@ public class RecruitApplicationController {
         return applicationService.listByApplicant(profileId);
     }
 
+    // 내 모집글에 들어온 신청 (최신순 키셋 페이지). nextCursor를 cursor로 넘기면 다음 페이지
     @GetMapping("/api/recruit/applications/received/{profileId}")
-    public List<RecruitApplication> listReceivedByProfile(@PathVariable Long profileId) {
-        return applicationService.listByTeamProfile(profileId);
+    public CursorPage<RecruitApplication> listReceivedByProfile(
+            @PathVariable Long profileId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return applicationService.listReceived(profileId, status, cursor, limit);
     }
 }
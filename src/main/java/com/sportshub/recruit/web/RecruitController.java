@@ -1,15 +1,21 @@
 package com.sportshub.recruit.web;
 
 import com.sportshub.recruit.domain.RecruitPost;
+import com.sportshub.recruit.repository.RecruitPostRepository.PostVersion;
+import com.sportshub.recruit.service.ProjectionQueries;
 import com.sportshub.recruit.service.RecruitService;
+import com.sportshub.recruit.web.dto.RecruitDtos.CursorPage;
 import com.sportshub.recruit.web.dto.RecruitDtos.PostCreateRequest;
 import com.sportshub.recruit.web.dto.RecruitDtos.PostResponse;
+import com.sportshub.recruit.web.dto.RecruitDtos.PostSearchCondition;
 import com.sportshub.recruit.web.dto.RecruitDtos.PostUpdateRequest;
+import com.sportshub.recruit.web.dto.RecruitMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.BeanUtils;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,21 +28,25 @@ public class RecruitController {
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public RecruitPost create(@Valid @RequestBody PostCreateRequest req) {
-        RecruitPost p = new RecruitPost();
-        BeanUtils.copyProperties(req, p);
-        return recruitService.create(p);
+        return recruitService.create(RecruitMapper.toPost(req));
+    }
+
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<RecruitPost> createAll(@RequestBody List<@Valid PostCreateRequest> requests) {
+        return recruitService.createAll(requests.stream().map(RecruitMapper::toPost).toList());
     }
 
     @GetMapping("/{id}")
-    public PostResponse get(@PathVariable Long id) {
-        return recruitService.getWithStats(id);
+    public ResponseEntity<PostResponse> get(@PathVariable Long id, WebRequest request) {
+        PostVersion version = recruitService.getVersion(id);
+        String etag = ConditionalGet.etag("post", id, version.getUpdatedAt(), version.getAcceptedCount());
+        return ConditionalGet.respond(request, etag, () -> recruitService.getWithStats(id));
     }
 
     @PatchMapping("/{id}")
     public RecruitPost update(@PathVariable Long id, @RequestBody PostUpdateRequest req) {
-        RecruitPost patch = new RecruitPost();
-        BeanUtils.copyProperties(req, patch);
-        return recruitService.update(id, patch);
+        return recruitService.update(id, RecruitMapper.toPatch(req));
     }
 
     @DeleteMapping("/{id}")
@@ -45,11 +55,18 @@ public class RecruitController {
         recruitService.delete(id);
     }
 
+    // 경기 날짜, id 순 키셋 페이지 (nextCursor를 cursor로 넘기면 다음 페이지).
+    // fields=title,region 또는 view=summary 를 주면 해당 필드만 담은 응답을 돌려준다
     @GetMapping
-    public List<PostResponse> list(@RequestParam(required = false) Long teamId,
-                                   @RequestParam(required = false) Long writerProfileId,
-                                   @RequestParam(required = false) String status,
-                                   @RequestParam(required = false) String category) {
-        return recruitService.listWithStats(teamId, writerProfileId, status, category);
+    public CursorPage<?> list(@ModelAttribute PostSearchCondition condition,
+                              @RequestParam(required = false) String cursor,
+                              @RequestParam(required = false) Integer limit,
+                              @RequestParam(required = false) String fields,
+                              @RequestParam(required = false) String view) {
+        List<String> selected = ProjectionQueries.resolveFields(fields, view, RecruitService.SUMMARY_FIELDS);
+        if (selected != null) {
+            return recruitService.listFields(condition, cursor, limit, selected);
+        }
+        return recruitService.listWithStats(condition, cursor, limit);
     }
 }
@@ -1,11 +1,19 @@
 package com.sportshub.recruit.web;
 
 import com.sportshub.recruit.domain.Report;
+import com.sportshub.recruit.domain.ReportTargetStats;
+import com.sportshub.recruit.service.ExportService;
+import com.sportshub.recruit.service.ProjectionQueries;
 import com.sportshub.recruit.service.ReportService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -14,14 +22,21 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ReportController {
     private final ReportService reportService;
+    private final ExportService exportService;
 
     @GetMapping
-    public List<Report> list(
+    public List<?> list(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String severity,
             @RequestParam(required = false) Long reporterId,
-            @RequestParam(required = false) Long reportedId
+            @RequestParam(required = false) Long reportedId,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String view
     ) {
+        List<String> selected = ProjectionQueries.resolveFields(fields, view, ReportService.SUMMARY_FIELDS);
+        if (selected != null) {
+            return reportService.findFields(status, severity, reporterId, reportedId, selected);
+        }
         if (status != null) {
             return reportService.findByStatus(status);
         }
@@ -37,6 +52,42 @@ public class ReportController {
         return reportService.findAll();
     }
 
+    // NDJSON(한 줄에 한 건) 스트리밍 내보내기. 기간은 신고 생성일 기준
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> exportService.exportReports(status, from, to, out));
+    }
+
+    // 가장 많이 신고된 대상 (targetType 생략 시 전체)
+    @GetMapping("/targets/top")
+    public List<ReportTargetStats> topTargets(@RequestParam(required = false) String targetType,
+                                              @RequestParam(required = false) Integer limit) {
+        return reportService.findTopTargets(targetType, limit);
+    }
+
+    // 검토 대기열에서 다음 신고를 선점. 여러 관리자가 동시에 호출해도 같은 신고를 받지 않는다
+    @PostMapping("/claim")
+    public List<Report> claim(@RequestParam Long adminId, @RequestParam(required = false) Integer limit) {
+        return reportService.claim(adminId, limit);
+    }
+
+    @PostMapping("/{id}/lease")
+    public Report renewLease(@PathVariable Long id, @RequestParam Long adminId) {
+        return reportService.renewLease(id, adminId);
+    }
+
+    @PostMapping("/{id}/release")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void release(@PathVariable Long id, @RequestParam Long adminId) {
+        reportService.releaseLease(id, adminId);
+    }
+
     @GetMapping("/{id}")
     public Report get(@PathVariable Long id) {
         return reportService.findById(id);
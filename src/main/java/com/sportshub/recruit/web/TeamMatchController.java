@@ -0,0 +1,30 @@
+package com.sportshub.recruit.web;
+
+import com.sportshub.recruit.domain.Match;
+import com.sportshub.recruit.service.MatchService;
+import com.sportshub.recruit.web.dto.RecruitDtos.CursorPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/teams/{teamId}/matches")
+@RequiredArgsConstructor
+public class TeamMatchController {
+    private final MatchService matchService;
+
+    // 팀 일정: from/to(경기일), status 필터. nextCursor를 cursor로 넘기면 다음 페이지
+    @GetMapping
+    public CursorPage<Match> list(
+            @PathVariable Long teamId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return matchService.findTeamSchedule(teamId, status, from, to, cursor, limit);
+    }
+}
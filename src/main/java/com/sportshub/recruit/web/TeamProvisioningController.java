@@ -0,0 +1,25 @@
+package com.sportshub.recruit.web;
+
+import com.sportshub.recruit.domain.TeamMemberProvisioning;
+import com.sportshub.recruit.service.TeamProvisioningService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/recruit/posts/{postId}/provisioning")
+@RequiredArgsConstructor
+public class TeamProvisioningController {
+    private final TeamProvisioningService teamProvisioningService;
+
+    @GetMapping
+    public List<TeamMemberProvisioning> list(@PathVariable Long postId) {
+        return teamProvisioningService.listByPost(postId);
+    }
+
+    @PostMapping("/retry")
+    public List<TeamMemberProvisioning> retry(@PathVariable Long postId) {
+        return teamProvisioningService.retryFailed(postId);
+    }
+}
@@ -2,10 +2,19 @@ package com.sportshub.recruit.web.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Base64;
+import java.util.List;
 
 public class RecruitDtos {
     @Data
@@ -100,6 +109,113 @@ public class RecruitDtos {
         private String status;
     }
 
+    // 게시글 검색 조건: 값이 있는 항목은 모두 AND로 결합된다
+    @Data
+    public static class PostSearchCondition {
+        private Long teamId;
+        private Long writerProfileId;
+        private String status;
+        private String category;
+        private String region;
+        private String subRegion;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate matchDateFrom;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate matchDateTo;
+        private String teamSize;
+        private String skillLevel;
+        private String fieldType;
+        private Integer minCost;
+        private Integer maxCost;
+        private Boolean parkingAvailable;
+        private Boolean showerFacilities;
+    }
+
+    // 경기 검색 조건: 값이 있는 항목은 모두 AND로 결합된다. teamId는 홈/원정 어느 쪽이든 일치
+    @Data
+    public static class MatchSearchCondition {
+        private String status;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate matchDate;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate startDate;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate endDate;
+        private Long teamId;
+        private Long venueId;
+    }
+
+    // 키셋 페이지 응답: nextCursor를 다음 요청의 커서로 그대로 넘기면 된다
+    @Data
+    @AllArgsConstructor
+    public static class CursorPage<T> {
+        private List<T> content;
+        private boolean hasNext;
+        private String nextCursor;
+    }
+
+    // 경기 목록 키셋 커서 (match_date, match_time, id). 클라이언트에는 불투명 문자열로 전달
+    public record MatchCursor(LocalDate matchDate, LocalTime matchTime, Long id) {
+        public static MatchCursor of(com.sportshub.recruit.domain.Match m) {
+            return new MatchCursor(m.getMatchDate(), m.getMatchTime(), m.getId());
+        }
+
+        public String encode() {
+            String raw = matchDate + "_" + matchTime + "_" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static MatchCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) return null;
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_");
+                return new MatchCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+        }
+    }
+
+    // 모집글 검색 키셋 커서 (match_date, id). 경기 날짜가 없는 글(NULL, 정렬상 맨 앞)은 날짜 자리를 비운다
+    public record PostCursor(LocalDate matchDate, Long id) {
+        public String encode() {
+            String raw = (matchDate == null ? "" : matchDate.toString()) + "_" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static PostCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) return null;
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_");
+                return new PostCursor(parts[0].isEmpty() ? null : LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+        }
+    }
+
+    // 받은 신청함 키셋 커서 (application_date, id)
+    public record ApplicationCursor(LocalDateTime applicationDate, Long id) {
+        public static ApplicationCursor of(com.sportshub.recruit.domain.RecruitApplication a) {
+            return new ApplicationCursor(a.getApplicationDate(), a.getId());
+        }
+
+        public String encode() {
+            String raw = applicationDate + "_" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static ApplicationCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) return null;
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_");
+                return new ApplicationCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+        }
+    }
+
     @Data
     public static class PostResponse {
         private Long id;
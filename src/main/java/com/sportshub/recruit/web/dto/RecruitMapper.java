@@ -0,0 +1,122 @@
+package com.sportshub.recruit.web.dto;
+
+import com.sportshub.recruit.domain.RecruitApplication;
+import com.sportshub.recruit.domain.RecruitPost;
+import com.sportshub.recruit.web.dto.RecruitDtos.ApplicationCreateRequest;
+import com.sportshub.recruit.web.dto.RecruitDtos.PostCreateRequest;
+import com.sportshub.recruit.web.dto.RecruitDtos.PostUpdateRequest;
+
+// 요청 DTO -> 엔티티 변환. 리플렉션(BeanUtils) 없이 필드를 직접 복사한다.
+// DTO나 엔티티에 필드를 추가하면 여기에도 추가해야 한다
+public final class RecruitMapper {
+
+    private RecruitMapper() {
+    }
+
+    public static RecruitPost toPost(PostCreateRequest req) {
+        RecruitPost p = new RecruitPost();
+        p.setTeamId(req.getTeamId());
+        p.setWriterProfileId(req.getWriterProfileId());
+        p.setTitle(req.getTitle());
+        p.setContent(req.getContent());
+        p.setRegion(req.getRegion());
+        p.setSubRegion(req.getSubRegion());
+        p.setImageUrl(req.getImageUrl());
+        p.setMatchDate(req.getMatchDate());
+        p.setGameTime(req.getGameTime());
+        p.setCategory(req.getCategory());
+        p.setTargetType(req.getTargetType());
+        p.setStatus(req.getStatus());
+        p.setRequiredPersonnel(req.getRequiredPersonnel());
+        p.setPreferredPositions(req.getPreferredPositions());
+        p.setAgeGroup(req.getAgeGroup());
+        p.setSkillLevel(req.getSkillLevel());
+        p.setFieldLocation(req.getFieldLocation());
+        p.setMatchType(req.getMatchType());
+        p.setTeamSize(req.getTeamSize());
+        p.setFieldType(req.getFieldType());
+        p.setCost(req.getCost());
+        p.setParkingAvailable(req.getParkingAvailable());
+        p.setShowerFacilities(req.getShowerFacilities());
+        p.setActivityDays(req.getActivityDays());
+        p.setActivityTime(req.getActivityTime());
+        p.setMinPlayers(req.getMinPlayers());
+        p.setMaxPlayers(req.getMaxPlayers());
+        p.setMatchRules(req.getMatchRules());
+        return p;
+    }
+
+    // null 필드는 applyPatch에서 "변경 없음"으로 처리된다
+    public static RecruitPost toPatch(PostUpdateRequest req) {
+        RecruitPost p = new RecruitPost();
+        p.setTeamId(req.getTeamId());
+        p.setWriterProfileId(req.getWriterProfileId());
+        p.setTitle(req.getTitle());
+        p.setContent(req.getContent());
+        p.setRegion(req.getRegion());
+        p.setSubRegion(req.getSubRegion());
+        p.setImageUrl(req.getImageUrl());
+        p.setMatchDate(req.getMatchDate());
+        p.setGameTime(req.getGameTime());
+        p.setCategory(req.getCategory());
+        p.setTargetType(req.getTargetType());
+        p.setStatus(req.getStatus());
+        p.setRequiredPersonnel(req.getRequiredPersonnel());
+        p.setPreferredPositions(req.getPreferredPositions());
+        p.setAgeGroup(req.getAgeGroup());
+        p.setSkillLevel(req.getSkillLevel());
+        p.setFieldLocation(req.getFieldLocation());
+        p.setMatchType(req.getMatchType());
+        p.setTeamSize(req.getTeamSize());
+        p.setFieldType(req.getFieldType());
+        p.setCost(req.getCost());
+        p.setParkingAvailable(req.getParkingAvailable());
+        p.setShowerFacilities(req.getShowerFacilities());
+        p.setActivityDays(req.getActivityDays());
+        p.setActivityTime(req.getActivityTime());
+        p.setMinPlayers(req.getMinPlayers());
+        p.setMaxPlayers(req.getMaxPlayers());
+        p.setMatchRules(req.getMatchRules());
+        return p;
+    }
+
+    // patch의 null이 아닌 필드를 target에 덮어쓴다. 작성자 변경은 신청 행 갱신이 따르므로 RecruitService.update에서 처리
+    public static void applyPatch(RecruitPost target, RecruitPost patch) {
+        if (patch.getTitle() != null) target.setTitle(patch.getTitle());
+        if (patch.getContent() != null) target.setContent(patch.getContent());
+        if (patch.getRegion() != null) target.setRegion(patch.getRegion());
+        if (patch.getSubRegion() != null) target.setSubRegion(patch.getSubRegion());
+        if (patch.getImageUrl() != null) target.setImageUrl(patch.getImageUrl());
+        if (patch.getMatchDate() != null) target.setMatchDate(patch.getMatchDate());
+        if (patch.getGameTime() != null) target.setGameTime(patch.getGameTime());
+        if (patch.getCategory() != null) target.setCategory(patch.getCategory());
+        if (patch.getTargetType() != null) target.setTargetType(patch.getTargetType());
+        if (patch.getStatus() != null) target.setStatus(patch.getStatus());
+        if (patch.getTeamId() != null) target.setTeamId(patch.getTeamId());
+        if (patch.getRequiredPersonnel() != null) target.setRequiredPersonnel(patch.getRequiredPersonnel());
+        if (patch.getPreferredPositions() != null) target.setPreferredPositions(patch.getPreferredPositions());
+        if (patch.getAgeGroup() != null) target.setAgeGroup(patch.getAgeGroup());
+        if (patch.getSkillLevel() != null) target.setSkillLevel(patch.getSkillLevel());
+        if (patch.getFieldLocation() != null) target.setFieldLocation(patch.getFieldLocation());
+        if (patch.getMatchType() != null) target.setMatchType(patch.getMatchType());
+        if (patch.getTeamSize() != null) target.setTeamSize(patch.getTeamSize());
+        if (patch.getFieldType() != null) target.setFieldType(patch.getFieldType());
+        if (patch.getCost() != null) target.setCost(patch.getCost());
+        if (patch.getParkingAvailable() != null) target.setParkingAvailable(patch.getParkingAvailable());
+        if (patch.getShowerFacilities() != null) target.setShowerFacilities(patch.getShowerFacilities());
+        if (patch.getActivityDays() != null) target.setActivityDays(patch.getActivityDays());
+        if (patch.getActivityTime() != null) target.setActivityTime(patch.getActivityTime());
+        if (patch.getMinPlayers() != null) target.setMinPlayers(patch.getMinPlayers());
+        if (patch.getMaxPlayers() != null) target.setMaxPlayers(patch.getMaxPlayers());
+        if (patch.getMatchRules() != null) target.setMatchRules(patch.getMatchRules());
+    }
+
+    public static RecruitApplication toApplication(ApplicationCreateRequest req) {
+        RecruitApplication a = new RecruitApplication();
+        a.setApplicantProfileId(req.getApplicantProfileId());
+        a.setApplicantTeamId(req.getApplicantTeamId());
+        a.setDescription(req.getDescription());
+        a.setStatus(req.getStatus());
+        return a;
+    }
+}
@@ -0,0 +1,216 @@
+-- V1 이후 엔티티에 추가된 컬럼과 테이블. 인덱스/유니크 키는 V3에서 한 번에 만든다.
+-- ddl-auto로 관리되던 기존 DB(baseline 1)에는 일부 컬럼/테이블이 이미 있으므로 없는 것만 추가한다
+-- (MySQL은 ADD COLUMN IF NOT EXISTS 미지원)
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'sub_region') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN sub_region VARCHAR(255)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'game_time') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN game_time TIME(6)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'match_id') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN match_id BIGINT', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'required_personnel') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN required_personnel INT', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'preferred_positions') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN preferred_positions VARCHAR(255)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'age_group') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN age_group VARCHAR(255)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'skill_level') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN skill_level VARCHAR(255)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'field_location') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN field_location VARCHAR(255)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'match_type') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN match_type VARCHAR(255)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'team_size') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN team_size VARCHAR(255)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'field_type') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN field_type VARCHAR(255)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'cost') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN cost INT', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'parking_available') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN parking_available BIT(1)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'shower_facilities') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN shower_facilities BIT(1)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'activity_days') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN activity_days VARCHAR(255)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'activity_time') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN activity_time VARCHAR(255)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'min_players') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN min_players INT', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'max_players') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN max_players INT', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'match_rules') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN match_rules TEXT', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'accepted_count') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN accepted_count INT NOT NULL DEFAULT 0', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'pending_count') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN pending_count INT NOT NULL DEFAULT 0', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND column_name = 'updated_at') = 0,
+    'ALTER TABLE recruit_posts ADD COLUMN updated_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_applications' AND column_name = 'applicant_team_id') = 0,
+    'ALTER TABLE recruit_applications ADD COLUMN applicant_team_id BIGINT', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 경기 모집글 신청의 팀 (팀당 한 번 신청 유니크 키용). 값 채우기는 V3의 중복 정리 이후
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_applications' AND column_name = 'match_team_id') = 0,
+    'ALTER TABLE recruit_applications ADD COLUMN match_team_id BIGINT', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_applications' AND column_name = 'updated_at') = 0,
+    'ALTER TABLE recruit_applications ADD COLUMN updated_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+CREATE TABLE IF NOT EXISTS matches (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    match_date DATE NOT NULL,
+    match_time TIME(6) NOT NULL,
+    venue VARCHAR(200) NOT NULL,
+    venue_id BIGINT,
+    venue_url VARCHAR(500),
+    home_team_id BIGINT NOT NULL,
+    away_team_id BIGINT NOT NULL,
+    home_score INT,
+    away_score INT,
+    status VARCHAR(30) DEFAULT 'SCHEDULED',
+    recruit_post_id BIGINT,
+    referee VARCHAR(100),
+    weather VARCHAR(50),
+    temperature INT,
+    created_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS reports (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    report_type VARCHAR(50) NOT NULL,
+    target_type VARCHAR(50) NOT NULL,
+    target_id BIGINT NOT NULL,
+    reporter_id BIGINT NOT NULL,
+    reported_id BIGINT NOT NULL,
+    reason VARCHAR(100) NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    description TEXT NOT NULL,
+    severity VARCHAR(30) DEFAULT 'MEDIUM',
+    priority INT NOT NULL DEFAULT 2,
+    status VARCHAR(30) DEFAULT 'PENDING',
+    assigned_admin_id BIGINT,
+    lease_expires_at DATETIME(6),
+    resolution TEXT,
+    resolved_at DATETIME(6),
+    created_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS report_target_stats (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    target_type VARCHAR(50) NOT NULL,
+    target_id BIGINT NOT NULL,
+    report_count INT NOT NULL DEFAULT 0,
+    last_reported_at DATETIME(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    receiver_profile_id BIGINT NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    message VARCHAR(1000) NOT NULL,
+    related_type VARCHAR(50),
+    related_id BIGINT,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(500),
+    created_at DATETIME(6) NOT NULL,
+    sent_at DATETIME(6)
+);
+
+CREATE TABLE IF NOT EXISTS team_member_provisioning (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    post_id BIGINT NOT NULL,
+    team_id BIGINT NOT NULL,
+    profile_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL,
+    last_error VARCHAR(500),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+-- 기존 reports 테이블(ddl-auto)에는 작업 큐용 컬럼이 없다
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'reports' AND column_name = 'priority') = 0,
+    'ALTER TABLE reports ADD COLUMN priority INT NOT NULL DEFAULT 2', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'reports' AND column_name = 'lease_expires_at') = 0,
+    'ALTER TABLE reports ADD COLUMN lease_expires_at DATETIME(6)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
@@ -0,0 +1,215 @@
+-- 리포지토리 조회 조건에 필요한 인덱스/유니크 키 전체.
+-- ddl-auto로 관리되던 DB(baseline 1)에는 일부가 이미 있으므로 없을 때만 만든다 (MySQL은 CREATE INDEX IF NOT EXISTS 미지원)
+
+-- ddl-auto는 기존 컬럼 정의를 바꾸지 않으므로 ETag 버전 컬럼의 ON UPDATE를 다시 지정
+ALTER TABLE matches
+    MODIFY COLUMN updated_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+-- 유니크 키 추가 전 중복 신고 정리: 같은 신고자/대상은 가장 먼저 접수된 건만 남긴다.
+-- 나머지는 처리 이력을 잃지 않도록 reports_archive로 옮긴다 (duplicate_of_id = 남긴 신고)
+CREATE TABLE reports_archive LIKE reports;
+ALTER TABLE reports_archive ADD (
+    duplicate_of_id BIGINT NOT NULL,
+    archived_at DATETIME(6) NOT NULL
+);
+
+INSERT INTO reports_archive
+SELECT r.*, kept.id, CURRENT_TIMESTAMP(6)
+FROM reports r
+    JOIN (SELECT reporter_id, target_type, target_id, MIN(id) AS id
+          FROM reports GROUP BY reporter_id, target_type, target_id HAVING COUNT(*) > 1) kept
+      ON kept.reporter_id = r.reporter_id AND kept.target_type = r.target_type
+     AND kept.target_id = r.target_id AND kept.id < r.id;
+
+DELETE r FROM reports r JOIN reports_archive a ON a.id = r.id;
+
+-- 중복 신청 정리: 기존에는 용병/경기 모집글에 같은 신청자(팀)가 여러 번 신청할 수 있었다.
+-- 신청자별로, 경기 모집글은 팀별로도 가장 진행된 상태(ACCEPTED > PENDING > 그 외)의 신청 하나만 남기고
+-- (같으면 먼저 들어온 신청) 나머지는 recruit_applications_archive로 옮긴다.
+-- 팀/용병 모집글에는 같은 팀 소속 여러 명의 신청이 정상이므로 팀 기준으로 정리하지 않는다
+CREATE TABLE recruit_applications_archive LIKE recruit_applications;
+ALTER TABLE recruit_applications_archive ADD (
+    duplicate_of_id BIGINT NOT NULL,
+    archived_at DATETIME(6) NOT NULL
+);
+
+INSERT INTO recruit_applications_archive
+SELECT a.*, d.kept_id, CURRENT_TIMESTAMP(6)
+FROM recruit_applications a
+    JOIN (SELECT id, FIRST_VALUE(id) OVER w AS kept_id, ROW_NUMBER() OVER w AS rn
+          FROM recruit_applications
+          WINDOW w AS (PARTITION BY post_id, applicant_profile_id
+                       ORDER BY CASE status WHEN 'ACCEPTED' THEN 2 WHEN 'PENDING' THEN 1 ELSE 0 END DESC, id)) d
+      ON d.id = a.id AND d.rn > 1;
+
+DELETE a FROM recruit_applications a JOIN recruit_applications_archive x ON x.id = a.id;
+
+INSERT INTO recruit_applications_archive
+SELECT a.*, d.kept_id, CURRENT_TIMESTAMP(6)
+FROM recruit_applications a
+    JOIN (SELECT ra.id, FIRST_VALUE(ra.id) OVER w AS kept_id, ROW_NUMBER() OVER w AS rn
+          FROM recruit_applications ra
+              JOIN recruit_posts p ON p.id = ra.post_id AND p.category = 'MATCH'
+          WHERE ra.applicant_team_id IS NOT NULL
+          WINDOW w AS (PARTITION BY ra.post_id, ra.applicant_team_id
+                       ORDER BY CASE ra.status WHEN 'ACCEPTED' THEN 2 WHEN 'PENDING' THEN 1 ELSE 0 END DESC, ra.id)) d
+      ON d.id = a.id AND d.rn > 1;
+
+DELETE a FROM recruit_applications a JOIN recruit_applications_archive x ON x.id = a.id;
+
+-- 경기 모집글 신청에만 match_team_id를 채운다. updated_at을 그대로 지정해 ETag 버전이 바뀌지 않게 한다
+UPDATE recruit_applications a
+    JOIN recruit_posts p ON p.id = a.post_id
+SET a.match_team_id = a.applicant_team_id,
+    a.updated_at = a.updated_at
+WHERE p.category = 'MATCH';
+
+-- 신청 카운터를 정리된 recruit_applications 기준으로 다시 계산 (V2에서 새로 추가된 경우의 채우기도 겸한다)
+UPDATE recruit_posts p
+    LEFT JOIN (SELECT post_id, SUM(status = 'ACCEPTED') AS accepted, SUM(status = 'PENDING') AS pending
+               FROM recruit_applications GROUP BY post_id) c ON c.post_id = p.id
+SET p.accepted_count = COALESCE(c.accepted, 0),
+    p.pending_count = COALESCE(c.pending, 0);
+
+-- priority는 severity에서 파생 (Report.priorityOf와 같은 값)
+UPDATE reports SET priority = CASE severity
+    WHEN 'CRITICAL' THEN 4 WHEN 'HIGH' THEN 3 WHEN 'LOW' THEN 1 ELSE 2 END;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND index_name = 'idx_recruit_posts_team_id') = 0,
+    'CREATE INDEX idx_recruit_posts_team_id ON recruit_posts (team_id)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND index_name = 'idx_recruit_posts_writer_profile_id') = 0,
+    'CREATE INDEX idx_recruit_posts_writer_profile_id ON recruit_posts (writer_profile_id)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND index_name = 'idx_recruit_posts_status') = 0,
+    'CREATE INDEX idx_recruit_posts_status ON recruit_posts (status)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND index_name = 'idx_recruit_posts_category_status_date') = 0,
+    'CREATE INDEX idx_recruit_posts_category_status_date ON recruit_posts (category, status, match_date, id)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_posts' AND index_name = 'idx_recruit_posts_category_status_region_date') = 0,
+    'CREATE INDEX idx_recruit_posts_category_status_region_date ON recruit_posts (category, status, region, match_date, id)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_applications' AND index_name = 'uk_recruit_applications_post_applicant') = 0,
+    'CREATE UNIQUE INDEX uk_recruit_applications_post_applicant ON recruit_applications (post_id, applicant_profile_id)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_applications' AND index_name = 'uk_recruit_applications_post_match_team') = 0,
+    'CREATE UNIQUE INDEX uk_recruit_applications_post_match_team ON recruit_applications (post_id, match_team_id)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_applications' AND index_name = 'idx_recruit_applications_post_status') = 0,
+    'CREATE INDEX idx_recruit_applications_post_status ON recruit_applications (post_id, status)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_applications' AND index_name = 'idx_recruit_applications_applicant_profile_id') = 0,
+    'CREATE INDEX idx_recruit_applications_applicant_profile_id ON recruit_applications (applicant_profile_id)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'recruit_applications' AND index_name = 'idx_recruit_applications_status') = 0,
+    'CREATE INDEX idx_recruit_applications_status ON recruit_applications (status)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'matches' AND index_name = 'idx_matches_match_date') = 0,
+    'CREATE INDEX idx_matches_match_date ON matches (match_date, match_time)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'matches' AND index_name = 'idx_matches_status_date') = 0,
+    'CREATE INDEX idx_matches_status_date ON matches (status, match_date, match_time)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'matches' AND index_name = 'idx_matches_home_team_date') = 0,
+    'CREATE INDEX idx_matches_home_team_date ON matches (home_team_id, match_date, match_time)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'matches' AND index_name = 'idx_matches_away_team_date') = 0,
+    'CREATE INDEX idx_matches_away_team_date ON matches (away_team_id, match_date, match_time)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'reports' AND index_name = 'uk_reports_reporter_target') = 0,
+    'CREATE UNIQUE INDEX uk_reports_reporter_target ON reports (reporter_id, target_type, target_id)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'reports' AND index_name = 'idx_reports_target') = 0,
+    'CREATE INDEX idx_reports_target ON reports (target_type, target_id)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'reports' AND index_name = 'idx_reports_reported_id') = 0,
+    'CREATE INDEX idx_reports_reported_id ON reports (reported_id)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'reports' AND index_name = 'idx_reports_status_severity') = 0,
+    'CREATE INDEX idx_reports_status_severity ON reports (status, severity)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'reports' AND index_name = 'idx_reports_status_priority') = 0,
+    'CREATE INDEX idx_reports_status_priority ON reports (status, priority DESC, id)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'report_target_stats' AND index_name = 'uk_report_target_stats_target') = 0,
+    'CREATE UNIQUE INDEX uk_report_target_stats_target ON report_target_stats (target_type, target_id)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'report_target_stats' AND index_name = 'idx_report_target_stats_count') = 0,
+    'CREATE INDEX idx_report_target_stats_count ON report_target_stats (report_count)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'report_target_stats' AND index_name = 'idx_report_target_stats_type_count') = 0,
+    'CREATE INDEX idx_report_target_stats_type_count ON report_target_stats (target_type, report_count)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'notification_outbox' AND index_name = 'idx_notification_outbox_status_next_attempt') = 0,
+    'CREATE INDEX idx_notification_outbox_status_next_attempt ON notification_outbox (status, next_attempt_at)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'team_member_provisioning' AND index_name = 'uk_team_member_provisioning_post_profile') = 0,
+    'CREATE UNIQUE INDEX uk_team_member_provisioning_post_profile ON team_member_provisioning (post_id, profile_id)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'team_member_provisioning' AND index_name = 'idx_team_member_provisioning_status_updated') = 0,
+    'CREATE INDEX idx_team_member_provisioning_status_updated ON team_member_provisioning (status, updated_at)', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+
+-- 신고 대상별 집계를 reports 기준으로 다시 계산
+DELETE FROM report_target_stats;
+INSERT INTO report_target_stats (target_type, target_id, report_count, last_reported_at)
+SELECT target_type, target_id, COUNT(*), COALESCE(MAX(created_at), CURRENT_TIMESTAMP(6))
+FROM reports
+GROUP BY target_type, target_id;
@@ -0,0 +1,14 @@
+-- 받은 신청함: 모집글 작성자를 신청 행에 복제해 recruit_posts 조인 없이 인덱스 순서대로 읽는다
+ALTER TABLE recruit_applications ADD COLUMN post_writer_profile_id BIGINT;
+
+-- updated_at을 그대로 지정해 ETag 버전이 바뀌지 않게 한다
+UPDATE recruit_applications a
+    JOIN recruit_posts p ON p.id = a.post_id
+SET a.post_writer_profile_id = p.writer_profile_id,
+    a.updated_at = a.updated_at;
+
+ALTER TABLE recruit_applications MODIFY COLUMN post_writer_profile_id BIGINT NOT NULL;
+
+CREATE INDEX idx_recruit_applications_inbox ON recruit_applications (post_writer_profile_id, application_date, id);
+CREATE INDEX idx_recruit_applications_inbox_status
+    ON recruit_applications (post_writer_profile_id, status, application_date, id);
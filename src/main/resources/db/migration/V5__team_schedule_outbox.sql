@@ -0,0 +1,13 @@
+-- 경기 확정 시 양 팀 일정 등록을 트랜잭션 밖으로 옮기기 위한 대기열
+CREATE TABLE team_schedule_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    team_id BIGINT NOT NULL,
+    match_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(500),
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_team_schedule_outbox_status_next_attempt ON team_schedule_outbox (status, next_attempt_at);
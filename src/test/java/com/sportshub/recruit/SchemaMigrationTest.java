@@ -0,0 +1,94 @@
+package com.sportshub.recruit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 운영 설정 그대로(Flyway + ddl-auto: validate) 기동되는지 두 가지 출발점에서 확인한다.
+//  - 빈 DB: V1부터 전부 실행
+//  - Flyway 도입 전 ddl-auto로 만들어진 DB: baseline 1로 잡고 V2부터 실행 (V3의 중복 정리 포함)
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaMigrationTest {
+
+    @Container
+    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @BeforeAll
+    static void createDatabases() {
+        JdbcTemplate root = new JdbcTemplate(dataSource("", "root"));
+        root.execute("CREATE DATABASE empty_db CHARACTER SET utf8mb4");
+        root.execute("CREATE DATABASE legacy_db CHARACTER SET utf8mb4");
+        root.execute("GRANT ALL ON *.* TO '" + mysql.getUsername() + "'@'%'");
+    }
+
+    @Test
+    void migratesEmptyDatabase() {
+        try (ConfigurableApplicationContext context = start("empty_db")) {
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+            assertThat(appliedVersions(jdbc)).containsExactly("1", "2", "3", "4", "5");
+        }
+    }
+
+    @Test
+    void migratesDatabaseBuiltByDdlAuto() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/legacy/ddl-auto-baseline.sql"))
+                .execute(dataSource("legacy_db", mysql.getUsername()));
+
+        try (ConfigurableApplicationContext context = start("legacy_db")) {
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+            assertThat(appliedVersions(jdbc)).containsExactly("1", "2", "3", "4", "5");
+            // 신청자별로 가장 진행된 상태 하나, 경기 모집글은 팀별로도 하나만 남는다
+            assertThat(jdbc.queryForList("SELECT id FROM recruit_applications ORDER BY id", Long.class))
+                    .containsExactly(2L, 3L, 4L);
+            assertThat(jdbc.queryForList("SELECT id, duplicate_of_id FROM recruit_applications_archive ORDER BY id"))
+                    .containsExactly(Map.of("id", 1L, "duplicate_of_id", 2L), Map.of("id", 5L, "duplicate_of_id", 4L));
+            assertThat(jdbc.queryForObject("SELECT match_team_id FROM recruit_applications WHERE id = 4", Long.class))
+                    .isEqualTo(7L);
+            assertThat(jdbc.queryForList("SELECT accepted_count, pending_count FROM recruit_posts ORDER BY id"))
+                    .containsExactly(Map.of("accepted_count", 1, "pending_count", 1),
+                            Map.of("accepted_count", 0, "pending_count", 1));
+            assertThat(jdbc.queryForList("SELECT id FROM reports", Long.class)).containsExactly(1L);
+            assertThat(jdbc.queryForObject("SELECT priority FROM reports WHERE id = 1", Integer.class)).isEqualTo(3);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String database) {
+        return new SpringApplicationBuilder(RecruitServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url(database),
+                        "--spring.datasource.username=" + mysql.getUsername(),
+                        "--spring.datasource.password=" + mysql.getPassword(),
+                        "--recruit.scheduling.enabled=false",
+                        "--logging.level.com.sportshub.recruit=INFO");
+    }
+
+    private static List<String> appliedVersions(JdbcTemplate jdbc) {
+        return jdbc.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success = 1 ORDER BY installed_rank", String.class);
+    }
+
+    private static DataSource dataSource(String database, String username) {
+        return new DriverManagerDataSource(url(database), username, mysql.getPassword());
+    }
+
+    private static String url(String database) {
+        return "jdbc:mysql://" + mysql.getHost() + ":" + mysql.getMappedPort(MySQLContainer.MYSQL_PORT) + "/" + database;
+    }
+}
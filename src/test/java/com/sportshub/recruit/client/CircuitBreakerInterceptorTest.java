@@ -0,0 +1,158 @@
+package com.sportshub.recruit.client;
+
+import com.sportshub.recruit.config.DownstreamProperties;
+import com.sportshub.recruit.config.HttpClientConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 HTTP 스텁을 상대로 HttpClientConfig가 만든 RestTemplate 그대로 호출해 서킷 브레이커 상태 전이를 확인한다
+class CircuitBreakerInterceptorTest {
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final Duration OPEN_DURATION = Duration.ofMillis(300);
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(200);
+
+    enum Mode { OK, ERROR, SLOW }
+
+    private final AtomicReference<Mode> mode = new AtomicReference<>(Mode.OK);
+    private final AtomicInteger hits = new AtomicInteger();
+    private ExecutorService handlers;
+    private HttpServer server;
+    private String url;
+
+    private CircuitBreakerRegistry registry;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/ping", this::handle);
+        // 느린 응답이 다음 요청을 막지 않도록
+        handlers = Executors.newCachedThreadPool();
+        server.setExecutor(handlers);
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/ping";
+
+        DownstreamProperties properties = new DownstreamProperties();
+        DownstreamProperties.Client client = new DownstreamProperties.Client();
+        client.setReadTimeout(READ_TIMEOUT);
+        client.setFailureThreshold(FAILURE_THRESHOLD);
+        client.setOpenDuration(OPEN_DURATION);
+        properties.getClients().put("team", client);
+        registry = new CircuitBreakerRegistry();
+        restTemplate = new HttpClientConfig(properties).teamRestTemplate(registry);
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+        handlers.shutdownNow();
+    }
+
+    @Test
+    void opensOnServerErrorsAndFailsFastWhileOpen() {
+        mode.set(Mode.ERROR);
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(this::call).isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(breaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        mode.set(Mode.OK);
+        assertThatThrownBy(this::call).isInstanceOf(CircuitOpenException.class);
+        // 열린 동안에는 스텁까지 요청이 가지 않는다
+        assertThat(hits.get()).isEqualTo(FAILURE_THRESHOLD);
+    }
+
+    @Test
+    void opensOnTimeouts() {
+        mode.set(Mode.SLOW);
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(this::call).isInstanceOf(ResourceAccessException.class);
+        }
+        assertThat(breaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(this::call).isInstanceOf(CircuitOpenException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(READ_TIMEOUT);
+        assertThat(hits.get()).isEqualTo(FAILURE_THRESHOLD);
+    }
+
+    @Test
+    void halfOpenTrialClosesAfterCoolDown() throws InterruptedException {
+        open();
+        mode.set(Mode.OK);
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        assertThat(call()).isEqualTo("pong");
+        assertThat(breaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(call()).isEqualTo("pong");
+        assertThat(hits.get()).isEqualTo(FAILURE_THRESHOLD + 2);
+    }
+
+    @Test
+    void failedHalfOpenTrialReopens() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        // 시험 호출 한 건만 나가고, 실패하면 바로 다시 OPEN
+        assertThatThrownBy(this::call).isInstanceOf(HttpServerErrorException.class);
+        assertThat(breaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(this::call).isInstanceOf(CircuitOpenException.class);
+        assertThat(hits.get()).isEqualTo(FAILURE_THRESHOLD + 1);
+    }
+
+    private void open() {
+        mode.set(Mode.ERROR);
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(this::call).isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(breaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private String call() {
+        return restTemplate.getForObject(url, String.class);
+    }
+
+    private CircuitBreaker breaker() {
+        return registry.register("team", FAILURE_THRESHOLD, OPEN_DURATION);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        try (exchange) {
+            switch (mode.get()) {
+                case ERROR -> exchange.sendResponseHeaders(503, -1);
+                case SLOW -> {
+                    try {
+                        Thread.sleep(READ_TIMEOUT.multipliedBy(5).toMillis());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case OK -> {
+                    byte[] body = "pong".getBytes();
+                    exchange.sendResponseHeaders(200, body.length);
+                    exchange.getResponseBody().write(body);
+                }
+            }
+        }
+    }
+}
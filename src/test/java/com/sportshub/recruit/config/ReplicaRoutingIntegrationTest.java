@@ -0,0 +1,146 @@
+package com.sportshub.recruit.config;
+
+import com.sportshub.recruit.domain.RecruitPost;
+import com.sportshub.recruit.service.RecruitService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// primary/replica 두 내장 DB에 같은 id의 게시글을 제목만 다르게 넣어 두고, 읽힌 제목으로 어느 쪽에서 읽었는지 확인한다
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingIntegrationTest.PRIMARY_URL,
+        "recruit.datasource.replica.url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "recruit.datasource.replica.username=sa",
+        "recruit.datasource.replica.password="
+})
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final long POST_ID = 900_001L;
+
+    @Autowired
+    RecruitService recruitService;
+
+    @Autowired
+    ReplicaRoutingDataSource replicaRouting;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    DataSource primaryDataSource;
+
+    JdbcTemplate primary;
+    // replica 풀은 읽기 전용이라 준비 작업은 별도 커넥션으로 한다
+    JdbcTemplate replica;
+
+    @BeforeEach
+    void seed() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        Integer tables = replica.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_name = 'recruit_posts'", Integer.class);
+        if (tables == 0) {
+            // 스키마는 Hibernate가 primary에만 만든다. 같은 DDL을 replica에 적용
+            List<String> ddl = primary.queryForList("SCRIPT NODATA", String.class);
+            ddl.forEach(replica::execute);
+        }
+        insertPost(primary, "from-primary");
+        insertPost(replica, "from-replica");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        RequestContextHolder.resetRequestAttributes();
+        primary.update("DELETE FROM recruit_posts");
+        replica.update("DELETE FROM recruit_posts");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        long before = replicaRouting.routedReads().get(ReplicaRoutingDataSource.REPLICA);
+
+        assertThat(recruitService.get(POST_ID).getTitle()).isEqualTo("from-replica");
+        assertThat(replicaRouting.routedReads().get(ReplicaRoutingDataSource.REPLICA)).isEqualTo(before + 1);
+    }
+
+    @Test
+    void writesGoToPrimary() {
+        MockHttpServletResponse response = bindRequest(new MockHttpServletRequest());
+
+        RecruitPost created = recruitService.create(post("written"));
+
+        assertThat(countById(primary, created.getId())).isEqualTo(1);
+        assertThat(countById(replica, created.getId())).isZero();
+        // 쓰기 커밋 후 read-your-writes 쿠키를 내려준다
+        assertThat(response.getCookie(ReadYourWritesTracker.COOKIE)).isNotNull();
+    }
+
+    @Test
+    void readsAfterWriteInSameRequestGoToPrimary() {
+        bindRequest(new MockHttpServletRequest());
+
+        recruitService.create(post("written"));
+
+        assertThat(recruitService.get(POST_ID).getTitle()).isEqualTo("from-primary");
+    }
+
+    @Test
+    void readsWithinReadYourWritesWindowGoToPrimary() {
+        long before = replicaRouting.routedReads().get(ReplicaRoutingDataSource.PRIMARY);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesTracker.COOKIE, Long.toString(System.currentTimeMillis() + 60_000)));
+        bindRequest(request);
+
+        assertThat(recruitService.get(POST_ID).getTitle()).isEqualTo("from-primary");
+        assertThat(replicaRouting.routedReads().get(ReplicaRoutingDataSource.PRIMARY)).isEqualTo(before + 1);
+    }
+
+    @Test
+    void readsAfterWindowExpiresGoBackToReplica() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesTracker.COOKIE, Long.toString(System.currentTimeMillis() - 1)));
+        bindRequest(request);
+
+        assertThat(recruitService.get(POST_ID).getTitle()).isEqualTo("from-replica");
+    }
+
+    private static MockHttpServletResponse bindRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private static void insertPost(JdbcTemplate jdbc, String title) {
+        jdbc.update("INSERT INTO recruit_posts (id, team_id, writer_profile_id, title, category, status) " +
+                "VALUES (?, 1, 1, ?, 'TEAM', 'OPEN')", POST_ID, title);
+    }
+
+    private static int countById(JdbcTemplate jdbc, Long id) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM recruit_posts WHERE id = ?", Integer.class, id);
+    }
+
+    private static RecruitPost post(String title) {
+        RecruitPost p = new RecruitPost();
+        p.setTeamId(1L);
+        p.setWriterProfileId(1L);
+        p.setTitle(title);
+        p.setCategory("TEAM");
+        return p;
+    }
+}
@@ -0,0 +1,138 @@
+package com.sportshub.recruit.service;
+
+import com.sportshub.recruit.client.TeamServiceClient;
+import com.sportshub.recruit.domain.RecruitApplication;
+import com.sportshub.recruit.domain.RecruitPost;
+import com.sportshub.recruit.repository.RecruitApplicationRepository;
+import com.sportshub.recruit.repository.RecruitPostRepository;
+import com.sportshub.recruit.repository.TeamMemberProvisioningRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// TEAM 모집글에 승인 요청이 동시에 몰려도 정원만큼만 승인되고, 마감과 팀원 추가 배치는 한 번만 일어나는지
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrency;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+        "spring.datasource.hikari.maximum-pool-size=20"
+})
+@ActiveProfiles("test")
+class ApplicationServiceConcurrencyTest {
+    private static final int APPLICANTS = 300;
+    private static final int QUOTA = 7;
+    private static final long TEAM_ID = 10L;
+
+    @Autowired
+    ApplicationService applicationService;
+
+    @Autowired
+    RecruitPostRepository postRepository;
+
+    @Autowired
+    RecruitApplicationRepository applicationRepository;
+
+    @Autowired
+    TeamMemberProvisioningRepository provisioningRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @MockitoSpyBean
+    TeamProvisioningService teamProvisioningService;
+
+    // 팀원 추가 호출이 실제 팀 서비스로 나가지 않도록
+    @MockitoBean
+    TeamServiceClient teamServiceClient;
+
+    @Test
+    void parallelAcceptsCloseTeamPostExactlyOnce() throws Exception {
+        RecruitPost post = postRepository.save(teamPost());
+        List<Long> applicationIds = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            applicationIds.add(applicationRepository.save(pendingApplication(post, 1_000L + i)).getId());
+        }
+        // 카운터는 엔티티 저장 대상이 아니므로 신청 수에 맞춰 직접 맞춘다
+        transactionTemplate.executeWithoutResult(tx -> postRepository.setApplicationCounts(post.getId(), 0, APPLICANTS));
+
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejectedByQuota = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        for (Long applicationId : applicationIds) {
+            pool.submit(() -> {
+                try {
+                    start.await();
+                    applicationService.updateStatus(post.getId(), applicationId, "ACCEPTED");
+                    accepted.incrementAndGet();
+                } catch (ResponseStatusException e) {
+                    if (e.getStatusCode() == HttpStatus.CONFLICT) {
+                        rejectedByQuota.incrementAndGet();
+                    } else {
+                        unexpected.add(e);
+                    }
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(unexpected).isEmpty();
+        assertThat(accepted.get()).isEqualTo(QUOTA);
+        assertThat(rejectedByQuota.get()).isEqualTo(APPLICANTS - QUOTA);
+
+        RecruitPost closed = postRepository.findById(post.getId()).orElseThrow();
+        assertThat(closed.getStatus()).isEqualTo("COMPLETED");
+        assertThat(closed.getAcceptedCount()).isEqualTo(QUOTA);
+        assertThat(closed.getPendingCount()).isEqualTo(APPLICANTS - QUOTA);
+        assertThat(applicationRepository.findByPostIdAndStatus(post.getId(), "ACCEPTED")).hasSize(QUOTA);
+
+        // 마감시킨 승인 하나만 팀원 추가 배치를 만든다
+        verify(teamProvisioningService, times(1)).enqueue(eq(post.getId()), eq(TEAM_ID), anyList());
+        assertThat(provisioningRepository.findByPostIdOrderById(post.getId())).hasSize(QUOTA);
+    }
+
+    private static RecruitPost teamPost() {
+        RecruitPost p = new RecruitPost();
+        p.setTeamId(TEAM_ID);
+        p.setWriterProfileId(1L);
+        p.setTitle("팀원 모집");
+        p.setCategory("TEAM");
+        p.setStatus("OPEN");
+        p.setRequiredPersonnel(QUOTA);
+        return p;
+    }
+
+    private static RecruitApplication pendingApplication(RecruitPost post, long profileId) {
+        RecruitApplication a = new RecruitApplication();
+        a.setPostId(post.getId());
+        a.setPostWriterProfileId(post.getWriterProfileId());
+        a.setApplicantProfileId(profileId);
+        a.setStatus("PENDING");
+        return a;
+    }
+}
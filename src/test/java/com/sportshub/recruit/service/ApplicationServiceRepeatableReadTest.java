@@ -0,0 +1,113 @@
+package com.sportshub.recruit.service;
+
+import com.sportshub.recruit.client.TeamServiceClient;
+import com.sportshub.recruit.domain.RecruitApplication;
+import com.sportshub.recruit.domain.RecruitPost;
+import com.sportshub.recruit.domain.TeamMemberProvisioning;
+import com.sportshub.recruit.repository.RecruitApplicationRepository;
+import com.sportshub.recruit.repository.RecruitPostRepository;
+import com.sportshub.recruit.repository.TeamMemberProvisioningRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MySQL 기본 격리 수준(REPEATABLE READ)에서 마감시키는 승인이 앞서 커밋된 승인까지 모두 팀원 추가 배치에 담는지.
+// 스냅샷이 게시글 잠금을 기다리기 전에 잡히면 먼저 커밋된 승인이 보이지 않는다.
+// H2의 REPEATABLE READ는 트랜잭션 시작 시점 스냅샷에 갱신 충돌을 오류로 처리해 InnoDB와 다르므로 실제 MySQL로 돌린다
+@SpringBootTest(properties = "spring.datasource.hikari.transaction-isolation=TRANSACTION_REPEATABLE_READ")
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class ApplicationServiceRepeatableReadTest {
+    private static final long TEAM_ID = 10L;
+
+    @Container
+    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    ApplicationService applicationService;
+
+    @Autowired
+    RecruitPostRepository postRepository;
+
+    @Autowired
+    RecruitApplicationRepository applicationRepository;
+
+    @Autowired
+    TeamMemberProvisioningRepository provisioningRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    TeamServiceClient teamServiceClient;
+
+    @Test
+    void closingAcceptSeesAcceptsCommittedWhileItWaited() throws Exception {
+        RecruitPost post = postRepository.save(teamPost(2));
+        Long first = applicationRepository.save(pendingApplication(post, 1_001L)).getId();
+        Long second = applicationRepository.save(pendingApplication(post, 1_002L)).getId();
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                tx -> postRepository.setApplicationCounts(post.getId(), 0, 2));
+
+        // 첫 승인은 게시글 행을 잠근 채 커밋하지 않고 둔다
+        TransactionStatus firstTx = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        applicationService.updateStatus(post.getId(), first, "ACCEPTED");
+
+        // 두 번째(마감시키는) 승인은 게시글 잠금을 기다린다
+        CompletableFuture<RecruitApplication> closing = CompletableFuture.supplyAsync(
+                () -> applicationService.updateStatus(post.getId(), second, "ACCEPTED"));
+        Thread.sleep(500);
+        assertThat(closing).isNotDone();
+
+        transactionManager.commit(firstTx);
+        closing.get(30, TimeUnit.SECONDS);
+
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getStatus()).isEqualTo("COMPLETED");
+        assertThat(provisioningRepository.findByPostIdOrderById(post.getId()))
+                .extracting(TeamMemberProvisioning::getProfileId)
+                .containsExactlyInAnyOrder(1_001L, 1_002L);
+    }
+
+    private static RecruitPost teamPost(int quota) {
+        RecruitPost p = new RecruitPost();
+        p.setTeamId(TEAM_ID);
+        p.setWriterProfileId(1L);
+        p.setTitle("팀원 모집");
+        p.setCategory("TEAM");
+        p.setStatus("OPEN");
+        p.setRequiredPersonnel(quota);
+        return p;
+    }
+
+    private static RecruitApplication pendingApplication(RecruitPost post, long profileId) {
+        RecruitApplication a = new RecruitApplication();
+        a.setPostId(post.getId());
+        a.setPostWriterProfileId(post.getWriterProfileId());
+        a.setApplicantProfileId(profileId);
+        a.setStatus("PENDING");
+        return a;
+    }
+}
@@ -0,0 +1,161 @@
+package com.sportshub.recruit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportshub.recruit.client.TeamRoster;
+import com.sportshub.recruit.client.TeamServiceClient;
+import com.sportshub.recruit.domain.RecruitApplication;
+import com.sportshub.recruit.domain.RecruitPost;
+import com.sportshub.recruit.repository.RecruitApplicationRepository;
+import com.sportshub.recruit.repository.RecruitPostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:applications;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class ApplicationServiceTest {
+
+    @Autowired
+    ApplicationService applicationService;
+
+    @Autowired
+    RecruitPostRepository postRepository;
+
+    @Autowired
+    RecruitApplicationRepository applicationRepository;
+
+    @MockitoBean
+    TeamServiceClient teamServiceClient;
+
+    @Test
+    void applyStartsAsPending() {
+        RecruitPost post = postRepository.save(mercenaryPost());
+
+        RecruitApplication saved = applicationService.apply(post.getId(), application(100L, null));
+
+        assertThat(saved.getStatus()).isEqualTo("PENDING");
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getPendingCount()).isEqualTo(1);
+    }
+
+    // 승인/거절 상태로 바로 만들면 정원 검사와 마감 처리를 건너뛰게 된다
+    @Test
+    void applyRejectsClientSetStatus() {
+        RecruitPost post = postRepository.save(mercenaryPost());
+
+        assertThatThrownBy(() -> applicationService.apply(post.getId(), application(100L, "ACCEPTED")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThat(applicationRepository.findByPostId(post.getId())).isEmpty();
+    }
+
+    @Test
+    void applyAllRejectsClientSetStatus() {
+        RecruitPost post = postRepository.save(mercenaryPost());
+
+        assertThatThrownBy(() -> applicationService.applyAll(post.getId(),
+                List.of(application(100L, "PENDING"), application(101L, "ACCEPTED"))))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThat(applicationRepository.findByPostId(post.getId())).isEmpty();
+        RecruitPost unchanged = postRepository.findById(post.getId()).orElseThrow();
+        assertThat(unchanged.getAcceptedCount()).isZero();
+        assertThat(unchanged.getPendingCount()).isZero();
+    }
+
+    @Test
+    void applyAllReturnsGeneratedIdsInRequestOrder() {
+        RecruitPost post = postRepository.save(mercenaryPost());
+
+        List<RecruitApplication> saved = applicationService.applyAll(post.getId(),
+                List.of(application(100L, null), application(101L, null), application(102L, null)));
+
+        assertThat(saved).extracting(RecruitApplication::getId).doesNotContainNull().isSorted();
+        for (RecruitApplication a : saved) {
+            RecruitApplication stored = applicationRepository.findById(a.getId()).orElseThrow();
+            assertThat(stored.getApplicantProfileId()).isEqualTo(a.getApplicantProfileId());
+            assertThat(stored.getStatus()).isEqualTo("PENDING");
+            assertThat(stored.getApplicationDate()).isCloseTo(a.getApplicationDate(), within(1, ChronoUnit.SECONDS));
+        }
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getPendingCount()).isEqualTo(3);
+    }
+
+    // 묶음 안에서 같은 사람이 두 번 신청하면 유니크 키에 걸려 전체가 롤백된다
+    @Test
+    void applyAllRejectsDuplicateWithinBatch() {
+        RecruitPost post = postRepository.save(mercenaryPost());
+
+        assertThatThrownBy(() -> applicationService.applyAll(post.getId(),
+                List.of(application(100L, null), application(100L, null))))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(applicationRepository.findByPostId(post.getId())).isEmpty();
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getPendingCount()).isZero();
+    }
+
+    // 팀원 모집에는 같은 팀 소속 여러 명이 각자 신청할 수 있다
+    @Test
+    void teamPostAcceptsSeveralApplicantsFromSameTeam() {
+        when(teamServiceClient.getRoster(anyLong())).thenReturn(TeamRoster.EMPTY);
+        RecruitPost post = postRepository.save(post("TEAM"));
+
+        applicationService.apply(post.getId(), application(100L, 7L, null));
+        applicationService.apply(post.getId(), application(101L, 7L, null));
+
+        assertThat(applicationRepository.findByPostId(post.getId()))
+                .hasSize(2)
+                .allSatisfy(a -> assertThat(a.getMatchTeamId()).isNull());
+    }
+
+    @Test
+    void matchPostAcceptsOneApplicationPerTeam() throws Exception {
+        when(teamServiceClient.getRoster(7L)).thenReturn(TeamRoster.parse(new ObjectMapper().readTree(
+                "[{\"profileId\":100,\"roleInTeam\":\"CAPTAIN\",\"isActive\":true}]")));
+        RecruitPost post = postRepository.save(post("MATCH"));
+
+        RecruitApplication first = applicationService.apply(post.getId(), application(100L, 7L, null));
+        assertThat(first.getMatchTeamId()).isEqualTo(7L);
+
+        assertThatThrownBy(() -> applicationService.apply(post.getId(), application(101L, 7L, null)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    private static RecruitPost mercenaryPost() {
+        return post("MERCENARY");
+    }
+
+    private static RecruitPost post(String category) {
+        RecruitPost p = new RecruitPost();
+        p.setTeamId(1L);
+        p.setWriterProfileId(1L);
+        p.setTitle("모집");
+        p.setCategory(category);
+        p.setStatus("OPEN");
+        return p;
+    }
+
+    private static RecruitApplication application(long profileId, String status) {
+        return application(profileId, null, status);
+    }
+
+    private static RecruitApplication application(long profileId, Long teamId, String status) {
+        RecruitApplication a = new RecruitApplication();
+        a.setApplicantProfileId(profileId);
+        a.setApplicantTeamId(teamId);
+        a.setStatus(status);
+        return a;
+    }
+}
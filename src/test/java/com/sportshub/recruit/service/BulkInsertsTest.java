@@ -0,0 +1,91 @@
+package com.sportshub.recruit.service;
+
+import com.sportshub.recruit.domain.Match;
+import com.sportshub.recruit.domain.RecruitPost;
+import com.sportshub.recruit.repository.MatchRepository;
+import com.sportshub.recruit.repository.RecruitPostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// JDBC로 넣은 행을 JPA로 다시 읽어 컬럼 매핑과 날짜/시각 변환이 엔티티 저장과 같은지 확인한다
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:bulk-inserts;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class BulkInsertsTest {
+
+    @Autowired
+    MatchService matchService;
+
+    @Autowired
+    RecruitService recruitService;
+
+    @Autowired
+    MatchRepository matchRepository;
+
+    @Autowired
+    RecruitPostRepository postRepository;
+
+    @Test
+    void createAllMatchesRoundTripsThroughJpa() {
+        Match first = match(LocalDate.of(2025, 3, 1), LocalTime.of(14, 0), 1L, 2L);
+        Match second = match(LocalDate.of(2025, 3, 2), LocalTime.of(19, 30), 3L, 4L);
+        // 요청 본문의 id는 무시된다
+        second.setId(999_999L);
+
+        List<Match> saved = matchService.createAll(List.of(first, second));
+
+        assertThat(saved.get(0).getId()).isLessThan(saved.get(1).getId());
+        assertThat(saved.get(1).getId()).isNotEqualTo(999_999L);
+        Match stored = matchRepository.findById(saved.get(1).getId()).orElseThrow();
+        assertThat(stored.getMatchDate()).isEqualTo(LocalDate.of(2025, 3, 2));
+        assertThat(stored.getMatchTime()).isEqualTo(LocalTime.of(19, 30));
+        assertThat(stored.getVenue()).isEqualTo("경기장");
+        assertThat(stored.getHomeTeamId()).isEqualTo(3L);
+        assertThat(stored.getAwayTeamId()).isEqualTo(4L);
+        assertThat(stored.getStatus()).isEqualTo("SCHEDULED");
+        assertThat(stored.getHomeScore()).isNull();
+    }
+
+    @Test
+    void createAllPostsRoundTripsThroughJpa() {
+        RecruitPost p = new RecruitPost();
+        p.setTeamId(1L);
+        p.setWriterProfileId(2L);
+        p.setTitle("용병 모집");
+        p.setCategory("MERCENARY");
+        p.setMatchDate(LocalDate.of(2025, 5, 5));
+        p.setGameTime(LocalTime.of(20, 0));
+        p.setCost(10_000);
+        p.setParkingAvailable(true);
+
+        RecruitPost saved = recruitService.createAll(List.of(p)).get(0);
+
+        RecruitPost stored = postRepository.findById(saved.getId()).orElseThrow();
+        assertThat(stored.getTitle()).isEqualTo("용병 모집");
+        assertThat(stored.getStatus()).isEqualTo("OPEN");
+        assertThat(stored.getMatchDate()).isEqualTo(LocalDate.of(2025, 5, 5));
+        assertThat(stored.getGameTime()).isEqualTo(LocalTime.of(20, 0));
+        assertThat(stored.getCost()).isEqualTo(10_000);
+        assertThat(stored.getParkingAvailable()).isTrue();
+        assertThat(stored.getShowerFacilities()).isNull();
+        assertThat(stored.getAcceptedCount()).isZero();
+        assertThat(stored.getPendingCount()).isZero();
+    }
+
+    private static Match match(LocalDate date, LocalTime time, long home, long away) {
+        Match m = new Match();
+        m.setMatchDate(date);
+        m.setMatchTime(time);
+        m.setVenue("경기장");
+        m.setHomeTeamId(home);
+        m.setAwayTeamId(away);
+        return m;
+    }
+}
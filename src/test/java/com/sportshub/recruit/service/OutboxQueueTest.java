@@ -0,0 +1,56 @@
+package com.sportshub.recruit.service;
+
+import com.sportshub.recruit.domain.TeamScheduleOutbox;
+import com.sportshub.recruit.repository.TeamScheduleOutboxRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OutboxQueueTest {
+    private final TeamScheduleOutboxRepository repository = mock(TeamScheduleOutboxRepository.class);
+    private final OutboxQueue<TeamScheduleOutbox> queue =
+            new OutboxQueue<>(repository, 3, Duration.ofMinutes(2), Duration.ofSeconds(5), Duration.ofSeconds(15));
+
+    @Test
+    void backoffDoublesUpToMax() {
+        assertThat(queue.backoff(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(queue.backoff(2)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(queue.backoff(3)).isEqualTo(Duration.ofSeconds(15));
+        assertThat(queue.backoff(64)).isEqualTo(Duration.ofSeconds(15));
+    }
+
+    @Test
+    void claimLeasesBatch() {
+        TeamScheduleOutbox entry = new TeamScheduleOutbox(1L, 2L);
+        when(repository.findDispatchable(any(), anyInt())).thenReturn(List.of(entry));
+
+        queue.claim(10);
+
+        assertThat(entry.getNextAttemptAt()).isAfter(LocalDateTime.now().plusMinutes(1));
+    }
+
+    @Test
+    void failRetriesThenMovesToDead() {
+        TeamScheduleOutbox entry = new TeamScheduleOutbox(1L, 2L);
+        when(repository.findById(7L)).thenReturn(Optional.of(entry));
+
+        assertThat(queue.fail(7L, "x".repeat(600))).isEmpty();
+        assertThat(entry.getAttempts()).isEqualTo(1);
+        assertThat(entry.getStatus()).isEqualTo("PENDING");
+        assertThat(entry.getLastError()).hasSize(500);
+        assertThat(entry.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+        queue.fail(7L, "boom");
+        assertThat(queue.fail(7L, "boom")).contains(entry);
+        assertThat(entry.getStatus()).isEqualTo("DEAD");
+    }
+}
@@ -0,0 +1,104 @@
+-- Flyway 도입 전(ddl-auto: update) DB 레이아웃. baseline 커밋의 엔티티로 Hibernate(MySQLDialect)가 만든 DDL 그대로.
+-- 아래 데이터는 V3가 정리해야 하는 중복(같은 신청자/같은 팀의 반복 신청, 같은 대상 반복 신고)
+
+create table matches (
+    away_score integer,
+    home_score integer,
+    match_date date not null,
+    match_time time(6) not null,
+    temperature integer,
+    away_team_id bigint not null,
+    created_at datetime(6),
+    home_team_id bigint not null,
+    id bigint not null auto_increment,
+    recruit_post_id bigint,
+    updated_at datetime(6),
+    venue_id bigint,
+    status varchar(30),
+    weather varchar(50),
+    referee varchar(100),
+    venue varchar(200) not null,
+    venue_url varchar(500),
+    primary key (id)
+) engine=InnoDB;
+
+create table recruit_applications (
+    applicant_profile_id bigint not null,
+    applicant_team_id bigint,
+    application_date datetime(6) not null,
+    id bigint not null auto_increment,
+    post_id bigint not null,
+    description TEXT,
+    status varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table recruit_posts (
+    cost integer,
+    game_time time(6),
+    match_date date,
+    max_players integer,
+    min_players integer,
+    parking_available bit,
+    required_personnel integer,
+    shower_facilities bit,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    match_id bigint,
+    team_id bigint not null,
+    writer_profile_id bigint not null,
+    activity_days varchar(255),
+    activity_time varchar(255),
+    age_group varchar(255),
+    category varchar(255),
+    content TEXT,
+    field_location varchar(255),
+    field_type varchar(255),
+    image_url varchar(255),
+    match_rules TEXT,
+    match_type varchar(255),
+    preferred_positions varchar(255),
+    region varchar(255),
+    skill_level varchar(255),
+    status varchar(255),
+    sub_region varchar(255),
+    target_type varchar(255),
+    team_size varchar(255),
+    title varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table reports (
+    assigned_admin_id bigint,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    reported_id bigint not null,
+    reporter_id bigint not null,
+    resolved_at datetime(6),
+    target_id bigint not null,
+    updated_at datetime(6),
+    severity varchar(30),
+    status varchar(30),
+    category varchar(50) not null,
+    report_type varchar(50) not null,
+    target_type varchar(50) not null,
+    reason varchar(100) not null,
+    description TEXT not null,
+    resolution TEXT,
+    primary key (id)
+) engine=InnoDB;
+
+INSERT INTO recruit_posts (id, team_id, writer_profile_id, title, category, status, created_at) VALUES
+    (1, 10, 1, '용병 모집', 'MERCENARY', 'OPEN', '2025-01-01 10:00:00'),
+    (2, 20, 2, '경기 상대 모집', 'MATCH', 'OPEN', '2025-01-01 10:00:00');
+
+INSERT INTO recruit_applications (id, post_id, applicant_profile_id, applicant_team_id, status, application_date) VALUES
+    (1, 1, 100, NULL, 'PENDING', '2025-01-02 10:00:00'),
+    (2, 1, 100, NULL, 'ACCEPTED', '2025-01-02 11:00:00'),
+    (3, 1, 101, NULL, 'PENDING', '2025-01-02 12:00:00'),
+    (4, 2, 200, 7, 'PENDING', '2025-01-03 10:00:00'),
+    (5, 2, 201, 7, 'PENDING', '2025-01-03 11:00:00');
+
+INSERT INTO reports (id, reporter_id, reported_id, target_type, target_id, report_type, category, reason, description, severity, status, created_at) VALUES
+    (1, 100, 200, 'POST', 2, 'SPAM', 'CONTENT', '도배', '같은 글 반복', 'HIGH', 'PENDING', '2025-01-04 10:00:00'),
+    (2, 100, 200, 'POST', 2, 'SPAM', 'CONTENT', '도배', '같은 글 반복', 'HIGH', 'PENDING', '2025-01-04 11:00:00');